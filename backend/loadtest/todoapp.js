@@ -0,0 +1,64 @@
+// Load test of the todoapp backend, run with k6 (https://k6.io):
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 loadtest/todoapp.js
+//
+// Each virtual user reads a page of lists, adds a todo and toggles it, which is the same mix of
+// JDBC-bound requests the frontend sends. Run it once with SPRING_THREADS_VIRTUAL_ENABLED=false
+// and once with SPRING_THREADS_VIRTUAL_ENABLED=true against the same database and compare
+// http_reqs (throughput) and the p(99) of http_req_duration in the summary.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '2000');
+const HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/api/lists`, JSON.stringify({ title: 'Load test' }), HEADERS);
+  check(res, { 'list created': (r) => r.status === 201 });
+  return { listId: res.json() };
+}
+
+export default function (data) {
+  const page = http.get(`${BASE_URL}/api/lists?limit=20`, { tags: { name: 'get lists page' } });
+  check(page, { 'page read': (r) => r.status === 200 });
+
+  const add = http.post(
+    `${BASE_URL}/api/todos/${data.listId}`,
+    JSON.stringify({ description: `Todo ${__VU}-${__ITER}` }),
+    Object.assign({ tags: { name: 'add todo' } }, HEADERS)
+  );
+  check(add, { 'todo added': (r) => r.status === 201 });
+
+  if (add.status === 201) {
+    const toggle = http.put(
+      `${BASE_URL}/api/todos/${add.json()}`,
+      JSON.stringify({ complete: true }),
+      Object.assign({ tags: { name: 'toggle todo' } }, HEADERS)
+    );
+    check(toggle, { 'todo toggled': (r) => r.status === 200 });
+  }
+}
+
+export function teardown(data) {
+  http.del(`${BASE_URL}/api/lists/${data.listId}`);
+}
@@ -0,0 +1,80 @@
+package no.ntnu.idata2502.project.todoapp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
+
+/**
+ * The SerializationBenchmark class represents the JMH benchmark of the JSON serialization of
+ * {@link ListEntity lists} with their todos, as done when sending lists from the list controller.
+ * The benchmark is run for lists of different sizes.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  private int todos;
+
+  private ObjectMapper objectMapper;
+
+  private ListEntity list;
+
+  /**
+   * Builds the list to serialize. The list is read from JSON, as lists are otherwise only built
+   * by JPA.
+   * 
+   * @throws JsonProcessingException If the JSON of the list cannot be read
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws JsonProcessingException {
+    this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    StringBuilder json = new StringBuilder("{\"id\":1,\"title\":\"Benchmark\",\"todos\":[");
+    for (int i = 0; i < this.todos; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":").append(i + 1)
+        .append(",\"description\":\"Todo ").append(i)
+        .append("\",\"complete\":").append(i % 2 == 0)
+        .append('}');
+    }
+    json.append("]}");
+    this.list = this.objectMapper.readValue(json.toString(), ListEntity.class);
+  }
+
+  /**
+   * Benchmarks serializing the list to JSON.
+   * 
+   * @return The JSON of the list
+   * @throws JsonProcessingException If the list cannot be serialized
+   */
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return this.objectMapper.writeValueAsBytes(this.list);
+  }
+}
@@ -0,0 +1,176 @@
+package no.ntnu.idata2502.project.todoapp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import no.ntnu.idata2502.project.todoapp.TodoappApplication;
+import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
+import no.ntnu.idata2502.project.todoapp.entites.TodoEntity;
+import no.ntnu.idata2502.project.todoapp.services.ListService;
+import no.ntnu.idata2502.project.todoapp.services.TodoService;
+
+/**
+ * The ServiceBenchmark class represents the JMH benchmark of the {@link ListService list} and
+ * {@link TodoService todo} service operations. The application context is started without a web
+ * server against an embedded H2 database, and the caches are disabled so that every operation
+ * reaches the database. The MySQL schema migrations are skipped, and the schema is generated from
+ * the entities instead.
+ * 
+ * @author Candidate 10006
+ * @version v1.2.0 (2026.10.18)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+  private static final int LISTS = 100;
+
+  private static final int TODOS_PER_LIST = 10;
+
+  private ConfigurableApplicationContext context;
+
+  private ListService listService;
+
+  private TodoService todoService;
+
+  private ListEntity list;
+
+  private Long todoId;
+
+  private boolean complete;
+
+  /**
+   * Starts the application context and adds the lists and todos read by the benchmarks.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.context = new SpringApplicationBuilder(TodoappApplication.class)
+      .web(WebApplicationType.NONE)
+      .properties(
+        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cache.type=none",
+        "logging.level.root=warn"
+      )
+      .run();
+    this.listService = this.context.getBean(ListService.class);
+    this.todoService = this.context.getBean(TodoService.class);
+
+    for (int i = 0; i < LISTS; i++) {
+      ListEntity list = new ListEntity("List " + i);
+      this.listService.add(list);
+      List<TodoEntity> todos = new ArrayList<>(TODOS_PER_LIST);
+      for (int j = 0; j < TODOS_PER_LIST; j++) {
+        TodoEntity todo = new TodoEntity("Todo " + j);
+        todo.setList(list);
+        todos.add(todo);
+      }
+      this.todoId = this.todoService.addAll(todos).get(0);
+      this.list = list;
+    }
+  }
+
+  /**
+   * Stops the application context.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.context.close();
+  }
+
+  /**
+   * Benchmarks adding a todo.
+   * 
+   * @return The generated ID
+   */
+  @Benchmark
+  public Long add() {
+    TodoEntity todo = new TodoEntity("Benchmark");
+    todo.setList(this.list);
+    return this.todoService.add(todo);
+  }
+
+  /**
+   * Benchmarks updating the completion status of a todo.
+   * 
+   * @return True if the todo is updated
+   */
+  @Benchmark
+  public boolean update() {
+    this.complete = !this.complete;
+    return this.todoService.update(this.todoId, this.complete);
+  }
+
+  /**
+   * Benchmarks deleting a todo.
+   * 
+   * @param todo The todo to delete
+   * @return True if the todo is deleted
+   */
+  @Benchmark
+  public boolean delete(DeletableTodo todo) {
+    return this.todoService.delete(todo.id);
+  }
+
+  /**
+   * Benchmarks getting all lists with their todos, including loading the todos.
+   * 
+   * @return The number of todos read
+   */
+  @Benchmark
+  public int getAll() {
+    int todos = 0;
+    // The caches are disabled, so the revision the lists are cached by does not matter
+    for (ListEntity list : this.listService.getAll(0L)) {
+      todos += list.getTodos().size();
+    }
+    return todos;
+  }
+
+  /**
+   * The DeletableTodo class represents the todo deleted by an invocation of the delete benchmark.
+   * The todo is added before each invocation, outside the measured time.
+   */
+  @State(Scope.Thread)
+  public static class DeletableTodo {
+
+    private Long id;
+
+    /**
+     * Adds the todo to delete.
+     * 
+     * @param benchmark The benchmark state
+     */
+    @Setup(Level.Invocation)
+    public void setUp(ServiceBenchmark benchmark) {
+      TodoEntity todo = new TodoEntity("Deletable");
+      todo.setList(benchmark.list);
+      this.id = benchmark.todoService.add(todo);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package no.ntnu.idata2502.project.todoapp.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * The CacheConfig class represents the configuration of the in-process caches. The caches are
+ * backed by Caffeine, and their size, expiry and statistics are configured in the application
+ * properties.
+ * 
+ * <p>The caches are transaction-aware. Entries put or evicted within a transaction are only put
+ * or evicted once the transaction commits, so a list deleted by a transaction cannot be cached
+ * again by a concurrent read before the deletion is visible.</p>
+ * 
+ * <p>The caches are local to each instance of the application, and a deletion only evicts the
+ * cache of the instance making it. The cache of lists by ID, which is used to check that a list
+ * exists before adding todos to it, therefore expires after a short TTL of its own, so a list
+ * deleted through another instance is only seen as existing for a few seconds.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.2.0 (2026.10.18)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  /**
+   * The name of the cache of lists by ID.
+   */
+  public static final String LISTS = "lists";
+
+  /**
+   * The name of the cache of all lists with their todos.
+   */
+  public static final String ALL_LISTS = "allLists";
+
+  /**
+   * Creates the customizer giving the cache of lists by ID its own TTL, shorter than the TTL of
+   * the other caches.
+   * 
+   * @param maximumSize The specified maximum number of cached lists
+   * @param ttl The specified TTL of cached lists
+   * @return The customizer
+   */
+  @Bean
+  public CacheManagerCustomizer<CaffeineCacheManager> listsCacheCustomizer(
+    @Value("${todoapp.cache.lists.maximum-size:10000}") long maximumSize,
+    @Value("${todoapp.cache.lists.ttl:5s}") Duration ttl
+  ) {
+    return cacheManager -> cacheManager.registerCustomCache(
+      LISTS,
+      Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build()
+    );
+  }
+
+  /**
+   * Creates the post-processor that makes the cache manager configured by Spring Boot
+   * transaction-aware. The post-processor is static, so that it is registered before the cache
+   * manager is created.
+   * 
+   * @return The post-processor
+   */
+  @Bean
+  public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (
+          bean instanceof CacheManager cacheManager
+            && !(bean instanceof TransactionAwareCacheManagerProxy)
+        ) {
+          return new TransactionAwareCacheManagerProxy(cacheManager);
+        }
+        return bean;
+      }
+    };
+  }
+}
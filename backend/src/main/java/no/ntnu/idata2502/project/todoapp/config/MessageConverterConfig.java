@@ -0,0 +1,48 @@
+package no.ntnu.idata2502.project.todoapp.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * The MessageConverterConfig class represents the configuration of the formats of request and
+ * response bodies besides JSON.
+ * 
+ * <p>Clients sending <code>Accept: application/cbor</code> get responses as CBOR, a binary
+ * encoding of the same data as the JSON. CBOR is smaller than JSON, mostly since numbers and
+ * booleans are not written as text, and cheaper to write and parse. Request bodies are read as
+ * CBOR when sent with <code>Content-Type: application/cbor</code>.</p>
+ * 
+ * <p>The CBOR converter is registered after the JSON converter, so clients accepting any format
+ * still get JSON.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+  @Autowired
+  private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+  /**
+   * Replaces the default CBOR converter with one configured like the JSON converter, so both
+   * formats contain the same fields.
+   * 
+   * @param converters The specified converters
+   */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter);
+    converters.add(new MappingJackson2CborHttpMessageConverter(
+      this.objectMapperBuilder.factory(new CBORFactory()).build()
+    ));
+  }
+}
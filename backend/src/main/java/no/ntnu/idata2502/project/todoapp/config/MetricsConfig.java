@@ -0,0 +1,58 @@
+package no.ntnu.idata2502.project.todoapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * The MetricsConfig class represents the configuration of the application metrics. The metrics
+ * are exposed through the Prometheus actuator endpoint.
+ * 
+ * <p>Service operations are timed with the <code>todoapp.service</code> timer, tagged with the
+ * class and method of the operation. Endpoints are timed with the <code>http.server.requests</code>
+ * timer, which is extended with a <code>result</code> tag naming the response status, such as
+ * <code>created</code>, <code>not_found</code> or <code>bad_request</code>.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@Configuration
+public class MetricsConfig {
+
+  /**
+   * The name of the timer of service operations.
+   */
+  public static final String SERVICE_TIMER = "todoapp.service";
+
+  /**
+   * Creates the convention for observations of HTTP requests, which adds the result tag.
+   * 
+   * @return The convention
+   */
+  @Bean
+  public ServerRequestObservationConvention serverRequestObservationConvention() {
+    return new DefaultServerRequestObservationConvention() {
+      @Override
+      public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(this.result(context));
+      }
+
+      private KeyValue result(ServerRequestObservationContext context) {
+        String result = "unknown";
+        if (context.getResponse() != null) {
+          HttpStatus status = HttpStatus.resolve(context.getResponse().getStatus());
+          if (status != null) {
+            result = status.name().toLowerCase();
+          }
+        }
+        return KeyValue.of("result", result);
+      }
+    };
+  }
+}
@@ -0,0 +1,71 @@
+package no.ntnu.idata2502.project.todoapp.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import no.ntnu.idata2502.project.todoapp.metrics.QueryMetricsListener;
+import no.ntnu.idata2502.project.todoapp.metrics.RepositoryMetricsAspect;
+
+/**
+ * The QueryMetricsConfig class represents the configuration of the SQL statement metrics. The
+ * data source is wrapped in a proxy that reports every statement to a
+ * {@link QueryMetricsListener}, and the statements are tagged with the repository method that
+ * executed them by the {@link RepositoryMetricsAspect}.
+ * 
+ * <p>The slow query threshold is configured with the <code>todoapp.query.slow-threshold</code>
+ * property. A negative threshold disables the slow query log.</p>
+ * 
+ * <p>Only data sources opening connections themselves are wrapped. Data sources delegating to
+ * other data sources, such as the one routing to the read replica, are not, so that no statement
+ * is reported twice.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.1.0 (2026.10.18)
+ */
+@Configuration
+public class QueryMetricsConfig {
+
+  /**
+   * Creates the post-processor that wraps the data source in a proxy reporting to the query
+   * metrics listener. The post-processor is static, so that it is registered before the data
+   * source is created.
+   * 
+   * @param meterRegistry The specified provider of the meter registry
+   * @param slowQueryThreshold The specified slow query threshold
+   * @return The post-processor
+   */
+  @Bean
+  public static BeanPostProcessor queryMetricsDataSourcePostProcessor(
+    ObjectProvider<MeterRegistry> meterRegistry,
+    @Value("${todoapp.query.slow-threshold:500ms}") Duration slowQueryThreshold
+  ) {
+    QueryMetricsListener listener = new QueryMetricsListener(meterRegistry, slowQueryThreshold);
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (
+          bean instanceof DataSource dataSource
+            && !(bean instanceof ProxyDataSource)
+            && !(bean instanceof DelegatingDataSource)
+        ) {
+          return ProxyDataSourceBuilder.create(dataSource)
+            .name(beanName)
+            .listener(listener)
+            .build();
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,139 @@
+package no.ntnu.idata2502.project.todoapp.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import no.ntnu.idata2502.project.todoapp.datasource.ReplicaLagMonitor;
+import no.ntnu.idata2502.project.todoapp.datasource.ReplicaRoutingDataSource;
+
+/**
+ * The ReplicaDataSourceConfig class represents the configuration of the read replica. It is only
+ * active when <code>todoapp.datasource.replica.url</code> is set, which it is not by default, and
+ * the single data source configured by Spring Boot is used otherwise.
+ * 
+ * <p>The primary and the replica have separate Hikari pools, configured with
+ * <code>spring.datasource.hikari.*</code> and <code>todoapp.datasource.replica.hikari.*</code>,
+ * and reported in the pool metrics by their pool names. The data source used by the application
+ * routes read-only transactions to the replica, see {@link ReplicaRoutingDataSource}.</p>
+ * 
+ * <p>Only the primary is part of the <code>db</code> health check. Reads fall back to the primary
+ * while the replica is unusable, so the application stays healthy without it, and the state of
+ * the replica is reported by the gauges of the {@link ReplicaLagMonitor} instead.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.2.0 (2026.10.18)
+ */
+@Configuration
+@ConditionalOnProperty("todoapp.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+  /**
+   * Creates the connection pool of the primary, configured like the single data source.
+   * 
+   * @param properties The specified data source properties
+   * @return The connection pool
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  /**
+   * Creates the connection pool of the replica.
+   * 
+   * @param properties The specified data source properties of the primary
+   * @param url The specified JDBC URL of the replica
+   * @param username The specified username of the replica
+   * @param password The specified password of the replica
+   * @return The connection pool
+   */
+  @Bean
+  @ConfigurationProperties("todoapp.datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+    DataSourceProperties properties,
+    @Value("${todoapp.datasource.replica.url}") String url,
+    @Value("${todoapp.datasource.replica.username:${spring.datasource.username:}}") String username,
+    @Value("${todoapp.datasource.replica.password:${spring.datasource.password:}}") String password
+  ) {
+    return DataSourceBuilder.create()
+      .type(HikariDataSource.class)
+      .driverClassName(properties.determineDriverClassName())
+      .url(url)
+      .username(username)
+      .password(password)
+      .build();
+  }
+
+  /**
+   * Creates the monitor of the replica lag.
+   * 
+   * @param replica The specified connection pool of the replica
+   * @param lagQuery The specified query returning the lag
+   * @param lagColumn The specified column containing the lag in seconds
+   * @param maxLag The specified maximum lag before reads fall back to the primary
+   * @param registry The specified meter registry
+   * @return The monitor
+   */
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+    @Qualifier("replicaDataSource") DataSource replica,
+    @Value("${todoapp.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+    @Value("${todoapp.datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+    @Value("${todoapp.datasource.replica.max-lag:5s}") Duration maxLag,
+    MeterRegistry registry
+  ) {
+    return new ReplicaLagMonitor(replica, lagQuery, lagColumn, maxLag, registry);
+  }
+
+  /**
+   * Creates the <code>db</code> health check of the primary. It replaces the health check Spring
+   * Boot would otherwise create for every data source, including the replica.
+   * 
+   * @param primary The specified connection pool of the primary
+   * @return The health check
+   */
+  @Bean
+  public DataSourceHealthIndicator dbHealthContributor(
+    @Qualifier("primaryDataSource") DataSource primary
+  ) {
+    return new DataSourceHealthIndicator(primary);
+  }
+
+  /**
+   * Creates the data source used by the application, routing between the primary and the
+   * replica.
+   * 
+   * @param primary The specified connection pool of the primary
+   * @param replica The specified connection pool of the replica
+   * @param lagMonitor The specified monitor of the replica lag
+   * @return The data source
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+    @Qualifier("primaryDataSource") DataSource primary,
+    @Qualifier("replicaDataSource") DataSource replica,
+    ReplicaLagMonitor lagMonitor
+  ) {
+    return new LazyConnectionDataSourceProxy(
+      new ReplicaRoutingDataSource(primary, replica, lagMonitor)
+    );
+  }
+}
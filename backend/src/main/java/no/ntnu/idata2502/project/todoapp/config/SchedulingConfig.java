@@ -0,0 +1,16 @@
+package no.ntnu.idata2502.project.todoapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * The SchedulingConfig class represents the configuration of scheduled tasks, such as the
+ * heartbeat of the change event subscribers.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,61 @@
+package no.ntnu.idata2502.project.todoapp.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * The WebSocketConfig class represents the configuration of the STOMP over WebSocket sync
+ * channel, see {@link no.ntnu.idata2502.project.todoapp.events.DeltaBatcher}.
+ * 
+ * <p>Clients connect to <code>/ws</code>, send changes to destinations prefixed with
+ * <code>/app</code> and subscribe to the changes of a list at
+ * <code>/topic/lists/{listId}</code>, and to lists being created and deleted at
+ * <code>/topic/lists</code>. Errors are sent to each client at <code>/user/queue/errors</code>.</p>
+ * 
+ * <p>Messages received from a session are handled in the order they were received. A session
+ * that cannot keep up with its outgoing messages, because its send buffer or send
+ * time limit is exceeded, is closed instead of holding messages for it without bound.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+  /**
+   * The interval between heartbeats in both directions, in milliseconds.
+   */
+  public static final long HEARTBEAT_INTERVAL = 10000;
+
+  @Lazy
+  @Autowired
+  private TaskScheduler messageBrokerTaskScheduler;
+
+  @Override
+  public void registerStompEndpoints(StompEndpointRegistry registry) {
+    registry.addEndpoint("/ws").setAllowedOriginPatterns("*");
+    // Changes sent by one client must be made in the order they were sent, such as two toggles
+    registry.setPreserveReceiveOrder(true);
+  }
+
+  @Override
+  public void configureMessageBroker(MessageBrokerRegistry registry) {
+    registry.enableSimpleBroker("/topic", "/queue")
+      .setHeartbeatValue(new long[] {HEARTBEAT_INTERVAL, HEARTBEAT_INTERVAL})
+      .setTaskScheduler(this.messageBrokerTaskScheduler);
+    registry.setApplicationDestinationPrefixes("/app");
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.setSendTimeLimit(10 * 1000).setSendBufferSizeLimit(512 * 1024);
+  }
+}
@@ -0,0 +1,78 @@
+package no.ntnu.idata2502.project.todoapp.controllers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import no.ntnu.idata2502.project.todoapp.events.ChangeBroadcaster;
+import no.ntnu.idata2502.project.todoapp.events.ChangeEvent;
+
+/**
+ * The EventController class represents the REST controller for {@link ChangeEvent change
+ * events}. The class handles all HTTP traffic reaching its endpoints.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@RestController
+@CrossOrigin
+@RequestMapping("/api/events")
+public class EventController {
+
+  @Autowired
+  private ChangeBroadcaster changeBroadcaster;
+
+  private final Logger logger = LoggerFactory.getLogger(EventController.class);
+
+  /**
+   * Endpoint for subscribing to changes to lists and todos as server-sent events. Each event is
+   * named after the type of the change, such as <code>todo_updated</code>, and contains the change
+   * as JSON. A <code>resync</code> event means that changes were dropped because the subscriber
+   * fell behind, and that the lists must be read again.
+   * 
+   * <p>The stream ends after the asynchronous request timeout, after which clients such as
+   * <code>EventSource</code> reconnect. Buffering by an nginx proxy in front is disabled for the
+   * response, so events are passed on as they are sent.</p>
+   * 
+   * @return <p><b>200 OK</b> (<i>body:</i> stream of change events)</p>
+   *         <li><p><b>503 SERVICE UNAVAILABLE</b> if there are too many subscribers</p></li>
+   */
+  @Operation(
+    summary = "Subscribe to changes",
+    description = "Streams changes to lists and todos as server-sent events"
+  )
+  @ApiResponses(value = {
+    @ApiResponse(
+      responseCode = "200",
+      description = "Signals success and streams change events"
+    ),
+    @ApiResponse(
+      responseCode = "503",
+      description = "Signals that there are too many subscribers"
+    )
+  })
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> subscribe() {
+    ResponseEntity<SseEmitter> response;
+    try {
+      SseEmitter emitter = this.changeBroadcaster.subscribe();
+      this.logger.info("[GET] Subscribed, streaming change events...");
+      response = ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    } catch (IllegalStateException e) {
+      this.logger.error("[GET] Too many subscribers, sending error response...");
+      response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+    return response;
+  }
+}
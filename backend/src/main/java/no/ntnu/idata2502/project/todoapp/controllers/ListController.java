@@ -1,8 +1,16 @@
 package no.ntnu.idata2502.project.todoapp.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -12,24 +20,47 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import no.ntnu.idata2502.project.todoapp.dtos.ImportResultDto;
 import no.ntnu.idata2502.project.todoapp.dtos.ListAddDto;
+import no.ntnu.idata2502.project.todoapp.dtos.ListSummaryDto;
+import no.ntnu.idata2502.project.todoapp.dtos.PageDto;
 import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
+import no.ntnu.idata2502.project.todoapp.services.IdempotencyKeyReusedException;
+import no.ntnu.idata2502.project.todoapp.services.IdempotencyService;
+import no.ntnu.idata2502.project.todoapp.services.ImportService;
 import no.ntnu.idata2502.project.todoapp.services.ListService;
+import no.ntnu.idata2502.project.todoapp.services.RevisionService;
 
 /**
  * The ListController class represents the REST controller for {@link ListEntity lists}. The class
  * handles all HTTP traffic reaching its endpoints.
  * 
+ * <p>List reads are tagged with the {@link RevisionService global revision} as a weak entity
+ * tag. A read with a matching <code>If-None-Match</code> header is answered with 304 Not Modified
+ * after reading only the revision, so polling clients do not load or serialize any list while
+ * nothing changes. The tag is weak since the lists are sent as JSON or CBOR, compressed or not,
+ * and Tomcat never compresses responses with strong entity tags. The revision and the lists it
+ * tags are read in the same read-only transaction, see {@link RevisionService#read}.</p>
+ * 
+ * <p>Adding a list optionally takes an <code>Idempotency-Key</code> header, so clients can retry
+ * the request without adding duplicates, see {@link IdempotencyService}.</p>
+ * 
  * @author Candidate 10006
- * @version v1.1.4 (2025.04.30)
+ * @version v1.10.0 (2026.10.18)
  */
 @RestController
 @CrossOrigin
@@ -39,36 +70,153 @@ public class ListController {
   @Autowired
   private ListService listService;
 
+  @Autowired
+  private ImportService importService;
+
+  @Autowired
+  private RevisionService revisionService;
+
+  @Autowired
+  private IdempotencyService idempotencyService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
   private final Logger logger = LoggerFactory.getLogger(ListController.class);
 
   /**
-   * Endpoint for getting all lists.
+   * Endpoint for getting lists. All lists are sent if neither a cursor nor a limit is specified.
+   * Otherwise, a page of lists is sent, starting right after the list the specified cursor points
+   * to.
    * 
-   * @return <p><b>200 OK</b> (<i>body:</i> all lists)</p>
+   * @param cursor The specified cursor
+   * @param limit The specified maximum number of lists in the page
+   * @param request The specified request, used to check the entity tag
+   * @return <p><b>200 OK</b> if paging is not requested (<i>body:</i> all lists)</p>
+   *         <li><p><b>200 OK</b> if cursor and limit are valid (<i>body:</i> page of
+   *         lists)</p></li>
+   *         <li><p><b>304 NOT MODIFIED</b> if lists have not changed since the entity tag</p></li>
+   *         <li><p><b>400 BAD REQUEST</b> if cursor or limit is invalid (<i>body:</i> error
+   *         message)</p></li>
    */
   @Operation(
     summary = "Get lists",
-    description = "Gets all lists"
+    description = "Gets all lists, or a page of lists if a cursor or a limit is specified"
   )
   @ApiResponses(value = {
     @ApiResponse(
       responseCode = "200",
-      description = "Signals success and contains all lists"
+      description = "Signals success and contains all lists or a page of lists"
+    ),
+    @ApiResponse(
+      responseCode = "304",
+      description = "Signals that the lists have not changed since the specified entity tag"
+    ),
+    @ApiResponse(
+      responseCode = "400",
+      description = "Signals error and contains error message"
     )
   })
   @GetMapping
-  public Iterable<ListEntity> getAll() {
-    this.logger.info("[GET] Sending all lists...");
-    Iterable<ListEntity> lists = this.listService.getAll();
-    return lists;
+  public ResponseEntity<Object> getAll(
+    @Parameter(description = "Opaque cursor of page to get, as returned with the previous page")
+    @RequestParam(required = false) String cursor,
+    @Parameter(description = "Maximum number of lists in page to get")
+    @RequestParam(required = false) Integer limit,
+    WebRequest request
+  ) {
+    ResponseEntity<Object> response;
+    try {
+      // Not caught within the transaction, which would be marked for rollback by the page read
+      response = this.revisionService.read(
+        revision -> this.readLists(revision, cursor, limit, request)
+      );
+    } catch (IllegalArgumentException e) {
+      this.logger.error("[GET] Invalid cursor or limit, sending error message...");
+      response = ResponseEntity.badRequest().body(e.getMessage());
+    }
+    return response;
+  }
+
+  /**
+   * Endpoint for getting summaries of all lists. A summary contains the ID and title of a list and
+   * counts of its todos, but not the todos themselves.
+   * 
+   * @param request The specified request, used to check the entity tag
+   * @return <p><b>200 OK</b> (<i>body:</i> summaries of all lists)</p>
+   *         <li><p><b>304 NOT MODIFIED</b> if lists have not changed since the entity tag</p></li>
+   */
+  @Operation(
+    summary = "Get list summaries",
+    description = "Gets summaries of all lists with total and completed todo counts"
+  )
+  @ApiResponses(value = {
+    @ApiResponse(
+      responseCode = "200",
+      description = "Signals success and contains summaries of all lists"
+    ),
+    @ApiResponse(
+      responseCode = "304",
+      description = "Signals that the lists have not changed since the specified entity tag"
+    )
+  })
+  @GetMapping("/summary")
+  public ResponseEntity<Object> getSummaries(WebRequest request) {
+    return this.revisionService.read(revision -> {
+      ResponseEntity<Object> response;
+      String etag = eTag(revision);
+      if (request.checkNotModified(etag)) {
+        this.logger.info("[GET] Lists not modified, sending not modified response...");
+        response = this.notModified(etag);
+      } else {
+        this.logger.info("[GET] Sending summaries of all lists...");
+        List<ListSummaryDto> summaries = this.listService.getSummaries();
+        response = this.ok(etag, summaries);
+      }
+      return response;
+    });
+  }
+
+  /**
+   * Endpoint for exporting all lists with their todos as newline-delimited JSON (NDJSON), one list
+   * per line. The lists are streamed from the database to the response, so the export uses the
+   * same amount of memory regardless of the number of lists.
+   * 
+   * @return <p><b>200 OK</b> (<i>body:</i> all lists with their todos, one per line)</p>
+   */
+  @Operation(
+    summary = "Export lists",
+    description = "Exports all lists with their todos as newline-delimited JSON"
+  )
+  @ApiResponses(value = {
+    @ApiResponse(
+      responseCode = "200",
+      description = "Signals success and contains all lists with their todos, one per line"
+    )
+  })
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> export() {
+    this.logger.info("[GET] Streaming export of all lists...");
+    StreamingResponseBody body = out -> {
+      try (ListExportWriter writer = new ListExportWriter(this.objectMapper, out)) {
+        this.listService.exportAll(writer);
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
   }
 
   /**
-   * Endpoint for adding a list with the specified title.
+   * Endpoint for adding a list with the specified title. A retry of the request with the same
+   * specified idempotency key gets the ID of the list added by the first request, without adding
+   * another list.
    * 
+   * @param idempotencyKey The specified idempotency key
    * @param title The specified title
    * @return <p><b>201 CREATED</b> if list is valid (<i>body:</i> generated ID of created list)</p>
-   *         <li><p><b>400 BAD REQUEST</b> if list is invalid (<i>body:</i> error message)</p></li>
+   *         <li><p><b>400 BAD REQUEST</b> if list or idempotency key is invalid (<i>body:</i> error
+   *         message)</p></li>
+   *         <li><p><b>422 UNPROCESSABLE ENTITY</b> if idempotency key has been used for another
+   *         request (<i>body:</i> error message)</p></li>
    */
   @Operation(
     summary = "Add list",
@@ -82,27 +230,74 @@ public class ListController {
     @ApiResponse(
       responseCode = "400",
       description = "Signals error and contains error message"
+    ),
+    @ApiResponse(
+      responseCode = "422",
+      description = "Signals error and contains error message"
     )
   })
   @PostMapping
   public ResponseEntity<Object> add(
+    @Parameter(description = "Key identifying retries of the same request")
+    @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
     @Parameter(description = "DTO containing title of list to add")
     @RequestBody ListAddDto dto
   ) {
     ResponseEntity<Object> response;
     try {
-      ListEntity list = new ListEntity(dto.getTitle());
-      Long id = this.listService.add(list);
+      Long id = this.idempotencyService.execute(
+        idempotencyKey,
+        "POST /api/lists " + dto.getTitle(),
+        () -> this.listService.add(new ListEntity(dto.getTitle()))
+      );
       this.logger.info("[POST] Valid list, sending generated ID of created list...");
       // TODO No URI specified
       response = ResponseEntity.created(null).body(id);
     } catch (IllegalArgumentException e) {
       this.logger.info("[POST] Invalid list, sending error message...");
       response = ResponseEntity.badRequest().body(e.getMessage());
+    } catch (IdempotencyKeyReusedException e) {
+      this.logger.error("[POST] Idempotency key used for another request, sending error...");
+      response = ResponseEntity.unprocessableEntity().body(e.getMessage());
     }
     return response;
   }
 
+  /**
+   * Endpoint for importing lists with their todos from a JSON array or newline-delimited JSON
+   * (NDJSON). The request body is parsed one list at a time, and valid lists are added in chunks,
+   * so the import uses the same amount of memory regardless of its size. Invalid lists are skipped
+   * and reported by their position in the import.
+   * 
+   * @param body The specified request body
+   * @return <p><b>200 OK</b> (<i>body:</i> number of imported and failed lists and the first
+   *         errors)</p>
+   * @throws IOException If the request body cannot be read
+   */
+  @Operation(
+    summary = "Import lists",
+    description = "Imports lists with their todos from a JSON array or newline-delimited JSON"
+  )
+  @ApiResponses(value = {
+    @ApiResponse(
+      responseCode = "200",
+      description = "Signals completion and contains number of imported and failed lists and the "
+        + "first errors"
+    )
+  })
+  @PostMapping(
+    value = "/import",
+    consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+  )
+  public ResponseEntity<ImportResultDto> importLists(
+    @Parameter(hidden = true)
+    InputStream body
+  ) throws IOException {
+    ImportResultDto result = this.importService.importLists(body);
+    this.logger.info("[POST] Import completed, sending result...");
+    return ResponseEntity.ok(result);
+  }
+
   /**
    * Endpoint for deleting the list with the specified ID.
    * 
@@ -140,6 +335,84 @@ public class ListController {
     return response;
   }
 
+  /**
+   * Gets the weak entity tag of list reads at the specified revision.
+   * 
+   * @param revision The specified revision
+   * @return The entity tag
+   */
+  private static String eTag(long revision) {
+    return "W/\"" + revision + "\"";
+  }
+
+  /**
+   * Reads all lists, or a page of lists, tagged with the specified revision. Must be called with
+   * the revision read in the same transaction, see {@link RevisionService#read}.
+   * 
+   * @param revision The specified revision
+   * @param cursor The specified cursor
+   * @param limit The specified maximum number of lists in the page
+   * @param request The specified request, used to check the entity tag
+   * @return <p><b>200 OK</b> (<i>body:</i> all lists or page of lists)</p>
+   *         <li><p><b>304 NOT MODIFIED</b> if lists have not changed since the entity tag</p></li>
+   * @throws IllegalArgumentException If the specified cursor or limit is invalid
+   */
+  private ResponseEntity<Object> readLists(
+    long revision,
+    String cursor,
+    Integer limit,
+    WebRequest request
+  ) {
+    ResponseEntity<Object> response;
+    String etag = eTag(revision);
+    if (request.checkNotModified(etag)) {
+      this.logger.info("[GET] Lists not modified, sending not modified response...");
+      response = this.notModified(etag);
+    } else if (cursor == null && limit == null) {
+      this.logger.info("[GET] Sending all lists...");
+      response = this.ok(etag, this.listService.getAll(revision));
+    } else {
+      PageDto<ListEntity> page = this.listService.getPage(
+        cursor,
+        limit == null ? ListService.DEFAULT_PAGE_LIMIT : limit
+      );
+      this.logger.info("[GET] Valid cursor and limit, sending page of lists...");
+      response = this.ok(etag, page);
+    }
+    return response;
+  }
+
+  /**
+   * Creates a successful response to a list read with the specified entity tag and body. Clients
+   * are told to revalidate before reusing the response, so they always see the latest lists, and
+   * to cache the response per representation.
+   * 
+   * @param etag The specified entity tag
+   * @param body The specified body
+   * @return <p><b>200 OK</b> (<i>body:</i> specified body)</p>
+   */
+  private ResponseEntity<Object> ok(String etag, Object body) {
+    return ResponseEntity.ok()
+      .eTag(etag)
+      .cacheControl(CacheControl.noCache())
+      .varyBy(HttpHeaders.ACCEPT)
+      .body(body);
+  }
+
+  /**
+   * Creates a not modified response to a list read with the specified entity tag.
+   * 
+   * @param etag The specified entity tag
+   * @return <p><b>304 NOT MODIFIED</b></p>
+   */
+  private ResponseEntity<Object> notModified(String etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+      .eTag(etag)
+      .cacheControl(CacheControl.noCache())
+      .varyBy(HttpHeaders.ACCEPT)
+      .build();
+  }
+
   /**
    * Exception handler for handling exceptions caused by invalid formatting of path variables. This
    * method sends a response to the request causing the specified exception.
@@ -0,0 +1,95 @@
+package no.ntnu.idata2502.project.todoapp.controllers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import no.ntnu.idata2502.project.todoapp.dtos.ListExportRowDto;
+
+/**
+ * The ListExportWriter class represents the writer of the list export. The writer consumes
+ * {@link ListExportRowDto export rows} ordered by list ID and writes one JSON object per list,
+ * with the todos of the list embedded, as newline-delimited JSON (NDJSON).
+ * 
+ * <p>Only the list currently being written is held by the writer, so the memory used does not
+ * depend on the number of lists exported.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+class ListExportWriter implements Consumer<ListExportRowDto>, AutoCloseable {
+
+  private final JsonGenerator generator;
+
+  private Long currentListId;
+
+  /**
+   * Constructor for the ListExportWriter class.
+   * 
+   * @param objectMapper The specified object mapper
+   * @param out The specified output stream
+   * @throws IOException If the generator cannot be created
+   */
+  ListExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+    this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+  }
+
+  /**
+   * Writes the specified row. A new JSON object is started when the row belongs to another list
+   * than the previous row.
+   * 
+   * @param row The specified row
+   * @throws UncheckedIOException If the row cannot be written
+   */
+  @Override
+  public void accept(ListExportRowDto row) {
+    try {
+      if (!row.getListId().equals(this.currentListId)) {
+        this.endList();
+        this.generator.writeStartObject();
+        this.generator.writeNumberField("id", row.getListId());
+        this.generator.writeStringField("title", row.getTitle());
+        this.generator.writeArrayFieldStart("todos");
+        this.currentListId = row.getListId();
+      }
+      if (row.getTodoId() != null) {
+        this.generator.writeStartObject();
+        this.generator.writeNumberField("id", row.getTodoId());
+        this.generator.writeStringField("description", row.getDescription());
+        this.generator.writeBooleanField("complete", row.getComplete());
+        this.generator.writeEndObject();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Ends the list being written, if any, and flushes the generator.
+   * 
+   * @throws IOException If the list cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    this.endList();
+    this.generator.close();
+  }
+
+  /**
+   * Ends the list being written, if any, followed by a newline.
+   * 
+   * @throws IOException If the list cannot be written
+   */
+  private void endList() throws IOException {
+    if (this.currentListId != null) {
+      this.generator.writeEndArray();
+      this.generator.writeEndObject();
+      this.generator.writeRaw('\n');
+    }
+  }
+}
@@ -1,20 +1,30 @@
 package no.ntnu.idata2502.project.todoapp.controllers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
@@ -22,10 +32,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import no.ntnu.idata2502.project.todoapp.dtos.PageDto;
 import no.ntnu.idata2502.project.todoapp.dtos.TodoAddDto;
+import no.ntnu.idata2502.project.todoapp.dtos.TodoBatchUpdateDto;
 import no.ntnu.idata2502.project.todoapp.dtos.TodoUpdateDto;
 import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
 import no.ntnu.idata2502.project.todoapp.entites.TodoEntity;
+import no.ntnu.idata2502.project.todoapp.services.IdempotencyKeyReusedException;
+import no.ntnu.idata2502.project.todoapp.services.IdempotencyService;
 import no.ntnu.idata2502.project.todoapp.services.ListService;
 import no.ntnu.idata2502.project.todoapp.services.TodoService;
 
@@ -33,8 +47,16 @@ import no.ntnu.idata2502.project.todoapp.services.TodoService;
  * The TodoController class represents the REST controller class for {@link TodoEntity todos}. The
  * class handles all HTTP traffic reaching its endpoints.
  * 
+ * <p>Updating and deleting a todo optionally takes the version of the todo the client last read
+ * as a strong entity tag in an <code>If-Match</code> header, such as <code>"3"</code>. The change
+ * is then only made if the todo still has that version, and is otherwise rejected with 409
+ * Conflict, so concurrent changes never silently overwrite each other.</p>
+ * 
+ * <p>Adding a todo optionally takes an <code>Idempotency-Key</code> header, so clients can retry
+ * the request without adding duplicates, see {@link IdempotencyService}.</p>
+ * 
  * @author Candidate 10006
- * @version v1.3.0 (2025.04.30)
+ * @version v1.10.0 (2026.10.18)
  */
 @RestController
 @CrossOrigin
@@ -47,15 +69,90 @@ public class TodoController {
   @Autowired
   private TodoService todoService;
 
+  @Autowired
+  private IdempotencyService idempotencyService;
+
   private final Logger logger = LoggerFactory.getLogger(TodoController.class);
 
   /**
-   * Endpoint for adding a todo with the specified description.
+   * Endpoint for getting a page of todos in the list with the specified list ID, optionally only
+   * todos with the specified completion status. The page starts right after the todo the specified
+   * cursor points to, or at the first todo if no cursor is specified.
+   * 
+   * @param listId The specified list ID
+   * @param complete The specified completion status
+   * @param cursor The specified cursor
+   * @param limit The specified maximum number of todos in the page
+   * @return <p><b>200 OK</b> if cursor and limit are valid (<i>body:</i> page of todos)</p>
+   *         <li><p><b>400 BAD REQUEST</b> if cursor or limit is invalid (<i>body:</i> error
+   *         message)</p></li>
+   *         <li><p><b>404 NOT FOUND</b> if list does not exist</p></li>
+   */
+  @Operation(
+    summary = "Get todos",
+    description = "Gets a page of todos in a list, optionally filtered by completion status"
+  )
+  @ApiResponses(value = {
+    @ApiResponse(
+      responseCode = "200",
+      description = "Signals success and contains a page of todos"
+    ),
+    @ApiResponse(
+      responseCode = "400",
+      description = "Signals error and contains error message"
+    ),
+    @ApiResponse(
+      responseCode = "404",
+      description = "Signals error"
+    )
+  })
+  @GetMapping
+  public ResponseEntity<Object> getPage(
+    @Parameter(description = "ID of list to get todos from")
+    @RequestParam Long listId,
+    @Parameter(description = "Completion status of todos to get, all todos if not specified")
+    @RequestParam(required = false) Boolean complete,
+    @Parameter(description = "Opaque cursor of page to get, as returned with the previous page")
+    @RequestParam(required = false) String cursor,
+    @Parameter(description = "Maximum number of todos in page to get")
+    @RequestParam(required = false) Integer limit
+  ) {
+    ResponseEntity<Object> response;
+    if (this.listService.get(listId).isPresent()) {
+      try {
+        PageDto<TodoEntity> page = this.todoService.getPage(
+          listId,
+          complete,
+          cursor,
+          limit == null ? TodoService.DEFAULT_PAGE_LIMIT : limit
+        );
+        this.logger.info("[GET] Valid cursor and limit, sending page of todos...");
+        response = ResponseEntity.ok(page);
+      } catch (IllegalArgumentException e) {
+        this.logger.error("[GET] Invalid cursor or limit, sending error message...");
+        response = ResponseEntity.badRequest().body(e.getMessage());
+      }
+    } else {
+      this.logger.error("[GET] List does not exist, sending error response");
+      response = ResponseEntity.notFound().build();
+    }
+    return response;
+  }
+
+  /**
+   * Endpoint for adding a todo with the specified description. A retry of the request with the
+   * same specified idempotency key gets the ID of the todo added by the first request, without
+   * adding another todo.
    * 
+   * @param listId The specified list ID
+   * @param idempotencyKey The specified idempotency key
    * @param description The specified description
    * @return <p><b>201 CREATED</b> if todo is valid (<i>body:</i> generated ID of created todo)</p>
-   *         <li><p><b>400 BAD REQUEST</b> if todo is invalid (<i>body:</i> error message)</p></li>
+   *         <li><p><b>400 BAD REQUEST</b> if todo or idempotency key is invalid (<i>body:</i> error
+   *         message)</p></li>
    *         <li><p><b>404 NOT FOUND</b> if list does not exist</p></li>
+   *         <li><p><b>422 UNPROCESSABLE ENTITY</b> if idempotency key has been used for another
+   *         request (<i>body:</i> error message)</p></li>
    */
   @Operation(
     summary = "Add todo",
@@ -73,28 +170,108 @@ public class TodoController {
     @ApiResponse(
       responseCode = "404",
       description = "Signals error"
+    ),
+    @ApiResponse(
+      responseCode = "422",
+      description = "Signals error and contains error message"
     )
   })
   @PostMapping("/{listId}")
   public ResponseEntity<Object> add(
     @Parameter(description = "ID of list to add todo to")
     @PathVariable Long listId,
+    @Parameter(description = "Key identifying retries of the same request")
+    @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
     @Parameter(description = "DTO containing description of todo to add")
     @RequestBody TodoAddDto dto
+  ) {
+    ResponseEntity<Object> response;
+    try {
+      Long id = this.idempotencyService.execute(
+        idempotencyKey,
+        "POST /api/todos/" + listId + " " + dto.getDescription(),
+        () -> {
+          // Throws NoSuchElementException if the list does not exist
+          TodoEntity todo = new TodoEntity(dto.getDescription());
+          todo.setList(this.listService.get(listId).orElseThrow());
+          return this.todoService.add(todo);
+        }
+      );
+      this.logger.info("[POST] Valid todo, sending generated ID of created todo...");
+      // TODO No URI specified
+      response = ResponseEntity.created(null).body(id);
+    } catch (NoSuchElementException | DataIntegrityViolationException e) {
+      // The list may be cached after it was deleted through another instance
+      this.logger.error("[POST] List does not exist, sending error response");
+      response = ResponseEntity.notFound().build();
+    } catch (IllegalArgumentException e) {
+      this.logger.error("[POST] Invalid todo, sending error message...");
+      response = ResponseEntity.badRequest().body(e.getMessage());
+    } catch (IdempotencyKeyReusedException e) {
+      this.logger.error("[POST] Idempotency key used for another request, sending error...");
+      response = ResponseEntity.unprocessableEntity().body(e.getMessage());
+    }
+    return response;
+  }
+
+  /**
+   * Endpoint for adding todos with the specified descriptions in one batch. The todos are only
+   * added if all of them are valid.
+   * 
+   * @param listId The specified list ID
+   * @param dtos The specified descriptions
+   * @return <p><b>201 CREATED</b> if todos are valid (<i>body:</i> generated IDs of created todos
+   *         in request order)</p>
+   *         <li><p><b>400 BAD REQUEST</b> if any todo is invalid (<i>body:</i> error message)</p>
+   *         </li>
+   *         <li><p><b>404 NOT FOUND</b> if list does not exist</p></li>
+   */
+  @Operation(
+    summary = "Add todos",
+    description = "Adds todos with the specified descriptions in one batch"
+  )
+  @ApiResponses(value = {
+    @ApiResponse(
+      responseCode = "201",
+      description = "Signals success and contains generated IDs of created todos in request order"
+    ),
+    @ApiResponse(
+      responseCode = "400",
+      description = "Signals error and contains error message"
+    ),
+    @ApiResponse(
+      responseCode = "404",
+      description = "Signals error"
+    )
+  })
+  @PostMapping("/{listId}/batch")
+  public ResponseEntity<Object> addAll(
+    @Parameter(description = "ID of list to add todos to")
+    @PathVariable Long listId,
+    @Parameter(description = "DTOs containing descriptions of todos to add")
+    @RequestBody List<TodoAddDto> dtos
   ) {
     ResponseEntity<Object> response;
     Optional<ListEntity> list = this.listService.get(listId);
     if (list.isPresent()) {
       try {
-        TodoEntity todo = new TodoEntity(dto.getDescription());
-        todo.setList(list.get());
-        Long id = this.todoService.add(todo);
-        this.logger.info("[POST] Valid todo, sending generated ID of created todo...");
+        List<TodoEntity> todos = new ArrayList<>(dtos.size());
+        for (TodoAddDto dto : dtos) {
+          TodoEntity todo = new TodoEntity(dto == null ? null : dto.getDescription());
+          todo.setList(list.get());
+          todos.add(todo);
+        }
+        List<Long> ids = this.todoService.addAll(todos);
+        this.logger.info("[POST] Valid todos, sending generated IDs of created todos...");
         // TODO No URI specified
-        response = ResponseEntity.created(null).body(id);
+        response = ResponseEntity.created(null).body(ids);
       } catch (IllegalArgumentException e) {
-        this.logger.error("[POST] Invalid todo, sending error message...");
+        this.logger.error("[POST] Invalid todos, sending error message...");
         response = ResponseEntity.badRequest().body(e.getMessage());
+      } catch (DataIntegrityViolationException e) {
+        // The list may be cached after it was deleted through another instance
+        this.logger.error("[POST] List does not exist, sending error response");
+        response = ResponseEntity.notFound().build();
       }
     } else {
       this.logger.error("[POST] List does not exist, sending error response");
@@ -104,12 +281,18 @@ public class TodoController {
   }
 
   /**
-   * Endpoint for updating the todo with the specified ID with the specified completion status.
+   * Endpoint for updating the todo with the specified ID with the specified completion status,
+   * optionally only if the todo has the version in the specified entity tag.
    * 
    * @param id The specified ID
+   * @param ifMatch The specified entity tag
    * @param completed The specified completion status
-   * @return <p><b>200 OK</b> if todo exists</p>
+   * @return <p><b>200 OK</b> if todo exists (<i>header:</i> entity tag of updated todo if an
+   *         entity tag is specified)</p>
+   *         <li><p><b>400 BAD REQUEST</b> if entity tag is invalid (<i>body:</i> error message)
+   *         </p></li>
    *         <li><p><b>404 NOT FOUND</b> if todo does not exist</p></li>
+   *         <li><p><b>409 CONFLICT</b> if todo has another version than the entity tag</p></li>
    */
   @Operation(
     summary = "Update todo",
@@ -120,35 +303,107 @@ public class TodoController {
       responseCode = "200",
       description = "Signals success"
     ),
+    @ApiResponse(
+      responseCode = "400",
+      description = "Signals error and contains error message"
+    ),
     @ApiResponse(
       responseCode = "404",
       description = "Signals error"
+    ),
+    @ApiResponse(
+      responseCode = "409",
+      description = "Signals that the todo has changed since the specified version"
     )
   })
   @PutMapping("/{id}")
-  public ResponseEntity<Void> update(
+  public ResponseEntity<Object> update(
     @Parameter(description = "ID of todo to update")
     @PathVariable Long id,
+    @Parameter(description = "Entity tag containing version of todo to update")
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
     @Parameter(description = "DTO containing updated completion status")
     @RequestBody TodoUpdateDto dto
   ) {
-    ResponseEntity<Void> response;
-    if (this.todoService.update(id, dto.isComplete())) {
-      this.logger.info("[PUT] Todo exists, sending success response...");
-      response = ResponseEntity.ok().build();
-    } else {
-      this.logger.error("[PUT] Todo does not exist, sending error response...");
-      response = ResponseEntity.notFound().build();
+    ResponseEntity<Object> response;
+    try {
+      Long version = version(ifMatch);
+      if (this.todoService.update(id, version, dto.isComplete())) {
+        this.logger.info("[PUT] Todo exists, sending success response...");
+        response = version == null
+          ? ResponseEntity.ok().build()
+          : ResponseEntity.ok().eTag("\"" + (version + 1) + "\"").build();
+      } else {
+        this.logger.error("[PUT] Todo does not exist, sending error response...");
+        response = ResponseEntity.notFound().build();
+      }
+    } catch (IllegalArgumentException e) {
+      this.logger.error("[PUT] Invalid entity tag, sending error message...");
+      response = ResponseEntity.badRequest().body(e.getMessage());
+    }
+    return response;
+  }
+
+  /**
+   * Endpoint for updating many todos with the specified completion status in one batch. The todos
+   * are either all todos in the specified list or the todos with the specified IDs, and exactly one
+   * of the two must be specified.
+   * 
+   * @param dto The specified list ID or todo IDs and completion status
+   * @return <p><b>200 OK</b> if request is valid (<i>body:</i> number of changed todos)</p>
+   *         <li><p><b>400 BAD REQUEST</b> if request is invalid (<i>body:</i> error message)</p>
+   *         </li>
+   */
+  @Operation(
+    summary = "Update todos",
+    description = "Updates all todos in a list or the todos with the specified IDs with the "
+      + "specified completion status"
+  )
+  @ApiResponses(value = {
+    @ApiResponse(
+      responseCode = "200",
+      description = "Signals success and contains number of changed todos"
+    ),
+    @ApiResponse(
+      responseCode = "400",
+      description = "Signals error and contains error message"
+    )
+  })
+  @PutMapping("/batch")
+  public ResponseEntity<Object> updateAll(
+    @Parameter(description = "DTO containing list ID or todo IDs and updated completion status")
+    @RequestBody TodoBatchUpdateDto dto
+  ) {
+    ResponseEntity<Object> response;
+    try {
+      int updated;
+      if (dto.getListId() != null && dto.getIds() == null) {
+        updated = this.todoService.updateAllInList(dto.getListId(), dto.isComplete());
+      } else if (dto.getListId() == null && dto.getIds() != null) {
+        updated = this.todoService.updateAll(dto.getIds(), dto.isComplete());
+      } else {
+        throw new IllegalArgumentException("Either a list ID or todo IDs must be specified");
+      }
+      this.logger.info("[PUT] Valid request, sending number of changed todos...");
+      response = ResponseEntity.ok(updated);
+    } catch (IllegalArgumentException e) {
+      this.logger.error("[PUT] Invalid request, sending error message...");
+      response = ResponseEntity.badRequest().body(e.getMessage());
     }
     return response;
   }
 
   /**
-   * Endpoint for deleting the todo with the specified ID
+   * Endpoint for deleting the todo with the specified ID, optionally only if the todo has the
+   * version in the specified entity tag.
    * 
    * @param id The specified ID
+   * @param ifMatch The specified entity tag
    * @return <p><b>200 OK</b> if todo exists</p>
+   *         <li><p><b>400 BAD REQUEST</b> if entity tag is invalid (<i>body:</i> error message)
+   *         </p></li>
    *         <li><b>404 NOT FOUND</b> if todo does not exist</p></li>
+   *         <li><p><b>409 CONFLICT</b> if todo has another version than the entity tag</p></li>
    */
   @Operation(
     summary = "Delete todo",
@@ -159,27 +414,82 @@ public class TodoController {
       responseCode = "200",
       description = "Signals success"
     ),
+    @ApiResponse(
+      responseCode = "400",
+      description = "Signals error and contains error message"
+    ),
     @ApiResponse(
       responseCode = "404",
       description = "Signals error"
+    ),
+    @ApiResponse(
+      responseCode = "409",
+      description = "Signals that the todo has changed since the specified version"
     )
   })
   @DeleteMapping("/{id}")
-  public ResponseEntity<Void> delete(
+  public ResponseEntity<Object> delete(
     @Parameter(description = "ID of todo to delete")
-    @PathVariable Long id
+    @PathVariable Long id,
+    @Parameter(description = "Entity tag containing version of todo to delete")
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
   ) {
-    ResponseEntity<Void> response;
-    if (this.todoService.delete(id)) {
-      this.logger.info("[DELETE] Todo exists, sending success response");
-      response = ResponseEntity.ok().build();
-    } else {
-      this.logger.error("[DELETE] Todo does not exist, sending error response...");
-      response = ResponseEntity.notFound().build();
+    ResponseEntity<Object> response;
+    try {
+      if (this.todoService.delete(id, version(ifMatch))) {
+        this.logger.info("[DELETE] Todo exists, sending success response");
+        response = ResponseEntity.ok().build();
+      } else {
+        this.logger.error("[DELETE] Todo does not exist, sending error response...");
+        response = ResponseEntity.notFound().build();
+      }
+    } catch (IllegalArgumentException e) {
+      this.logger.error("[DELETE] Invalid entity tag, sending error message...");
+      response = ResponseEntity.badRequest().body(e.getMessage());
     }
     return response;
   }
 
+  /**
+   * Gets the version of a todo from the specified <code>If-Match</code> header value. The value
+   * must be a single strong entity tag containing the version, or <code>*</code>, which matches
+   * any version.
+   * 
+   * @param ifMatch The specified header value
+   * @return The version, or <code>null</code> if any version matches
+   * @throws IllegalArgumentException If the specified header value is invalid
+   */
+  private static Long version(String ifMatch) {
+    Long version = null;
+    if (ifMatch != null && !ifMatch.trim().equals("*")) {
+      String etag = ifMatch.trim();
+      if (etag.length() < 3 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+        throw new IllegalArgumentException("The specified entity tag is invalid");
+      }
+      try {
+        version = Long.parseLong(etag.substring(1, etag.length() - 1));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("The specified entity tag is invalid");
+      }
+    }
+    return version;
+  }
+
+  /**
+   * Exception handler for handling exceptions caused by a todo having changed since the version
+   * specified in a request. This method sends a response to the request causing the specified
+   * exception.
+   *
+   * @param e The specified exception
+   * @return <p><b>409 CONFLICT</b> (<i>body:</i> error message)</p>
+   */
+  @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+  public ResponseEntity<String> handleConflictException(ObjectOptimisticLockingFailureException e) {
+    this.logger.error("[EXCEPTION] Todo has changed since the specified version, sending error...");
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+      .body("The specified todo has changed since the specified version");
+  }
+
   /**
    * Exception handler for handling exceptions caused by invalid formatting of path variables. This
    * method sends a response to the request causing the specified exception.
@@ -0,0 +1,126 @@
+package no.ntnu.idata2502.project.todoapp.controllers;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import no.ntnu.idata2502.project.todoapp.config.WebSocketConfig;
+import no.ntnu.idata2502.project.todoapp.dtos.TodoAddDto;
+import no.ntnu.idata2502.project.todoapp.dtos.TodoUpdateDto;
+import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
+import no.ntnu.idata2502.project.todoapp.entites.TodoEntity;
+import no.ntnu.idata2502.project.todoapp.events.DeltaBatcher;
+import no.ntnu.idata2502.project.todoapp.services.ListService;
+import no.ntnu.idata2502.project.todoapp.services.TodoService;
+
+/**
+ * The TodoMessageController class represents the STOMP controller class for
+ * {@link TodoEntity todos}. The class handles the same changes as {@link TodoController}, sent
+ * over the sync channel instead of one HTTP request each, see {@link WebSocketConfig}.
+ * 
+ * <p>Todos are updated and deleted within the list in their destination, so the change is made
+ * with a single statement and sent to the subscribers of that list, without reading the list
+ * containing the todo first.</p>
+ * 
+ * <p>Nothing is sent back for a successful change, since the change reaches every subscriber of
+ * the list, including the sender, through {@link DeltaBatcher}. Errors are sent back to the sender
+ * only, at <code>/user/queue/errors</code>.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.2.0 (2026.10.18)
+ */
+@Controller
+public class TodoMessageController {
+
+  @Autowired
+  private ListService listService;
+
+  @Autowired
+  private TodoService todoService;
+
+  private final Logger logger = LoggerFactory.getLogger(TodoMessageController.class);
+
+  /**
+   * Destination for adding a todo with the specified description to the list with the specified
+   * list ID.
+   * 
+   * @param listId The specified list ID
+   * @param dto The specified description
+   * @throws IllegalArgumentException If the list does not exist or the todo is invalid
+   */
+  @MessageMapping("/lists/{listId}/todos/add")
+  public void add(@DestinationVariable Long listId, @Payload TodoAddDto dto) {
+    Optional<ListEntity> list = this.listService.get(listId);
+    if (list.isEmpty()) {
+      throw new IllegalArgumentException("The specified list does not exist");
+    }
+    TodoEntity todo = new TodoEntity(dto.getDescription());
+    todo.setList(list.get());
+    try {
+      this.todoService.add(todo);
+    } catch (DataIntegrityViolationException e) {
+      // The list may be cached after it was deleted through another instance
+      throw new IllegalArgumentException("The specified list does not exist", e);
+    }
+    this.logger.info("[STOMP] Valid todo, added todo");
+  }
+
+  /**
+   * Destination for updating the todo with the specified ID in the list with the specified list ID
+   * with the specified completion status.
+   * 
+   * @param listId The specified list ID
+   * @param id The specified ID
+   * @param dto The specified completion status
+   * @throws IllegalArgumentException If the todo does not exist in the list
+   */
+  @MessageMapping("/lists/{listId}/todos/{id}/update")
+  public void update(
+    @DestinationVariable Long listId,
+    @DestinationVariable Long id,
+    @Payload TodoUpdateDto dto
+  ) {
+    if (!this.todoService.updateInList(listId, id, dto.isComplete())) {
+      throw new IllegalArgumentException("The specified todo does not exist");
+    }
+    this.logger.info("[STOMP] Todo exists, updated todo");
+  }
+
+  /**
+   * Destination for deleting the todo with the specified ID in the list with the specified list
+   * ID.
+   * 
+   * @param listId The specified list ID
+   * @param id The specified ID
+   * @throws IllegalArgumentException If the todo does not exist in the list
+   */
+  @MessageMapping("/lists/{listId}/todos/{id}/delete")
+  public void delete(@DestinationVariable Long listId, @DestinationVariable Long id) {
+    if (!this.todoService.deleteInList(listId, id)) {
+      throw new IllegalArgumentException("The specified todo does not exist");
+    }
+    this.logger.info("[STOMP] Todo exists, deleted todo");
+  }
+
+  /**
+   * Sends the message of the specified exception back to the sender of the failed change.
+   * 
+   * @param e The specified exception
+   * @return The error message
+   */
+  @MessageExceptionHandler
+  @SendToUser(destinations = "/queue/errors", broadcast = false)
+  public String handleIllegalArgumentException(IllegalArgumentException e) {
+    this.logger.error("[STOMP] Invalid change, sending error message...");
+    return e.getMessage();
+  }
+}
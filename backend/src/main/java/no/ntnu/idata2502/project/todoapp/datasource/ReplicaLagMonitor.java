@@ -0,0 +1,110 @@
+package no.ntnu.idata2502.project.todoapp.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The ReplicaLagMonitor class represents the monitor of how far a read replica lags behind the
+ * primary database. The replica is usable while its lag is at most the maximum lag.
+ * 
+ * <p>The lag is read in seconds from a column of the first row of the lag query, by default
+ * <code>Seconds_Behind_Source</code> of <code>SHOW REPLICA STATUS</code>. The replica is unusable
+ * if the query fails, returns no rows or returns no lag, which is the case when replication is
+ * stopped or the database is not a replica.</p>
+ * 
+ * <p>The lag and whether the replica is usable are exposed as the gauges
+ * <code>todoapp.datasource.replica.lag</code> and
+ * <code>todoapp.datasource.replica.usable</code>.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public class ReplicaLagMonitor {
+  private final JdbcTemplate jdbcTemplate;
+  private final String lagQuery;
+  private final String lagColumn;
+  private final Duration maxLag;
+
+  private volatile double lag = Double.NaN;
+  private volatile boolean usable;
+
+  private final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+  /**
+   * Constructor for the ReplicaLagMonitor class. The lag is checked once right away.
+   * 
+   * @param replica The specified data source of the replica
+   * @param lagQuery The specified query returning the lag
+   * @param lagColumn The specified column containing the lag in seconds
+   * @param maxLag The specified maximum lag
+   * @param registry The specified meter registry
+   */
+  public ReplicaLagMonitor(
+    DataSource replica,
+    String lagQuery,
+    String lagColumn,
+    Duration maxLag,
+    MeterRegistry registry
+  ) {
+    this.jdbcTemplate = new JdbcTemplate(replica);
+    this.lagQuery = lagQuery;
+    this.lagColumn = lagColumn;
+    this.maxLag = maxLag;
+    Gauge.builder("todoapp.datasource.replica.lag", this, monitor -> monitor.lag)
+      .description("Seconds the replica lags behind the primary")
+      .baseUnit("seconds")
+      .register(registry);
+    Gauge.builder("todoapp.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+      .description("Whether read-only transactions are routed to the replica")
+      .register(registry);
+    this.check();
+  }
+
+  /**
+   * Checks the lag of the replica.
+   */
+  @Scheduled(fixedDelayString = "${todoapp.datasource.replica.lag-check-interval:1s}")
+  public void check() {
+    Double seconds = null;
+    try {
+      seconds = this.jdbcTemplate.query(this.lagQuery, rs -> {
+        Double result = null;
+        if (rs.next()) {
+          Object value = rs.getObject(this.lagColumn);
+          result = value instanceof Number number ? number.doubleValue() : null;
+        }
+        return result;
+      });
+    } catch (DataAccessException e) {
+      this.logger.warn("Could not read the replica lag: " + e.getMessage());
+    }
+    boolean wasUsable = this.usable;
+    this.lag = seconds == null ? Double.NaN : seconds;
+    this.usable = seconds != null && seconds * 1000 <= this.maxLag.toMillis();
+    if (wasUsable && !this.usable) {
+      this.logger.warn("Replica lag is " + seconds + "s, routing reads to the primary");
+    } else if (!wasUsable && this.usable) {
+      this.logger.info("Replica lag is " + seconds + "s, routing reads to the replica");
+    }
+  }
+
+  /**
+   * Checks if the replica is usable, meaning that its lag was at most the maximum lag when last
+   * checked.
+   * 
+   * @return True if the replica is usable or false otherwise
+   */
+  public boolean isUsable() {
+    return this.usable;
+  }
+}
@@ -0,0 +1,62 @@
+package no.ntnu.idata2502.project.todoapp.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The ReplicaRoutingDataSource class represents a data source routing read-only transactions to
+ * a read replica and everything else to the primary database.
+ * 
+ * <p>Read-only transactions go to the primary as well while the replica lags too far behind or
+ * cannot be reached, see {@link ReplicaLagMonitor}. Connections outside transactions always go to
+ * the primary.</p>
+ * 
+ * <p>The route is decided when a connection is first used, so the data source must be wrapped in
+ * a {@link LazyConnectionDataSourceProxy}. Transaction managers otherwise get the connection when
+ * the transaction begins, before it is marked read-only.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+  private final ReplicaLagMonitor lagMonitor;
+
+  /**
+   * The Route enum represents the database a connection is routed to.
+   */
+  public enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  /**
+   * Constructor for the ReplicaRoutingDataSource class.
+   * 
+   * @param primary The specified data source of the primary
+   * @param replica The specified data source of the replica
+   * @param lagMonitor The specified monitor of the replica lag
+   */
+  public ReplicaRoutingDataSource(
+    DataSource primary,
+    DataSource replica,
+    ReplicaLagMonitor lagMonitor
+  ) {
+    this.lagMonitor = lagMonitor;
+    this.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    this.setDefaultTargetDataSource(primary);
+    this.afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+      && this.lagMonitor.isUsable()
+      ? Route.REPLICA
+      : Route.PRIMARY;
+  }
+}
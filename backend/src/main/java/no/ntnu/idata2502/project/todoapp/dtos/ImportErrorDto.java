@@ -0,0 +1,42 @@
+package no.ntnu.idata2502.project.todoapp.dtos;
+
+/**
+ * The ImportErrorDto class represents the data transfer object (DTO) for an error in a record of
+ * an import. Records are numbered from 0 in the order they appear in the import.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public class ImportErrorDto {
+  private long record;
+  private String message;
+
+  /**
+   * Constructor for the ImportErrorDto class.
+   * 
+   * @param record The specified record number
+   * @param message The specified error message
+   */
+  public ImportErrorDto(long record, String message) {
+    this.record = record;
+    this.message = message;
+  }
+
+  /**
+   * Getter for record number.
+   * 
+   * @return Record number
+   */
+  public long getRecord() {
+    return this.record;
+  }
+
+  /**
+   * Getter for error message.
+   * 
+   * @return Error message
+   */
+  public String getMessage() {
+    return this.message;
+  }
+}
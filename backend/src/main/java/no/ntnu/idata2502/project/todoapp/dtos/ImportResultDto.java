@@ -0,0 +1,57 @@
+package no.ntnu.idata2502.project.todoapp.dtos;
+
+import java.util.List;
+
+/**
+ * The ImportResultDto class represents the data transfer object (DTO) for the result of an
+ * import. The errors only contain the first failed records, while the number of failed records
+ * counts all of them.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public class ImportResultDto {
+  private long imported;
+  private long failed;
+  private List<ImportErrorDto> errors;
+
+  /**
+   * Constructor for the ImportResultDto class.
+   * 
+   * @param imported The specified number of imported records
+   * @param failed The specified number of failed records
+   * @param errors The specified errors
+   */
+  public ImportResultDto(long imported, long failed, List<ImportErrorDto> errors) {
+    this.imported = imported;
+    this.failed = failed;
+    this.errors = errors;
+  }
+
+  /**
+   * Getter for number of imported records.
+   * 
+   * @return Number of imported records
+   */
+  public long getImported() {
+    return this.imported;
+  }
+
+  /**
+   * Getter for number of failed records.
+   * 
+   * @return Number of failed records
+   */
+  public long getFailed() {
+    return this.failed;
+  }
+
+  /**
+   * Getter for errors.
+   * 
+   * @return Errors
+   */
+  public List<ImportErrorDto> getErrors() {
+    return this.errors;
+  }
+}
@@ -0,0 +1,85 @@
+package no.ntnu.idata2502.project.todoapp.dtos;
+
+/**
+ * The ListExportRowDto class represents the data transfer object (DTO) for a row of the list
+ * export. A row contains a list and one of its todos, or only the list if it has no todos, in
+ * which case the todo fields are <code>null</code>.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public class ListExportRowDto {
+  private Long listId;
+  private String title;
+  private Long todoId;
+  private String description;
+  private Boolean complete;
+
+  /**
+   * Constructor for the ListExportRowDto class.
+   * 
+   * @param listId The specified list ID
+   * @param title The specified list title
+   * @param todoId The specified todo ID
+   * @param description The specified todo description
+   * @param complete The specified todo completion status
+   */
+  public ListExportRowDto(
+    Long listId,
+    String title,
+    Long todoId,
+    String description,
+    Boolean complete
+  ) {
+    this.listId = listId;
+    this.title = title;
+    this.todoId = todoId;
+    this.description = description;
+    this.complete = complete;
+  }
+
+  /**
+   * Getter for list ID.
+   * 
+   * @return List ID
+   */
+  public Long getListId() {
+    return this.listId;
+  }
+
+  /**
+   * Getter for list title.
+   * 
+   * @return List title
+   */
+  public String getTitle() {
+    return this.title;
+  }
+
+  /**
+   * Getter for todo ID.
+   * 
+   * @return Todo ID or <code>null</code> if the list has no todos
+   */
+  public Long getTodoId() {
+    return this.todoId;
+  }
+
+  /**
+   * Getter for todo description.
+   * 
+   * @return Todo description or <code>null</code> if the list has no todos
+   */
+  public String getDescription() {
+    return this.description;
+  }
+
+  /**
+   * Getter for todo completion status.
+   * 
+   * @return Todo completion status or <code>null</code> if the list has no todos
+   */
+  public Boolean getComplete() {
+    return this.complete;
+  }
+}
@@ -0,0 +1,47 @@
+package no.ntnu.idata2502.project.todoapp.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * The ListSummaryDto interface represents the data transfer object (DTO) for list summaries. A
+ * list summary contains the ID and title of a list together with counts of its todos, and is read
+ * as a projection instead of loading the list and its todos.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@Schema(description = "Summary of a list with counts of its todos")
+public interface ListSummaryDto {
+
+  /**
+   * Getter for ID.
+   * 
+   * @return ID
+   */
+  @Schema(description = "Unique ID of list")
+  Long getId();
+
+  /**
+   * Getter for title.
+   * 
+   * @return Title
+   */
+  @Schema(description = "List title")
+  String getTitle();
+
+  /**
+   * Getter for total number of todos.
+   * 
+   * @return Total number of todos
+   */
+  @Schema(description = "Total number of todos in list")
+  long getTotal();
+
+  /**
+   * Getter for number of completed todos.
+   * 
+   * @return Number of completed todos
+   */
+  @Schema(description = "Number of completed todos in list")
+  long getCompleted();
+}
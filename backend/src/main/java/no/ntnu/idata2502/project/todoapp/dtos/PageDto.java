@@ -0,0 +1,45 @@
+package no.ntnu.idata2502.project.todoapp.dtos;
+
+import java.util.List;
+
+/**
+ * The PageDto class represents the data transfer object (DTO) for a page of items read with keyset
+ * pagination. The next cursor is <code>null</code> when there are no more pages.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ * @param <T> The type of the items in the page
+ */
+public class PageDto<T> {
+  private List<T> items;
+  private String nextCursor;
+
+  /**
+   * Constructor for the PageDto class.
+   * 
+   * @param items The specified items
+   * @param nextCursor The specified cursor of the next page
+   */
+  public PageDto(List<T> items, String nextCursor) {
+    this.items = items;
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * Getter for items.
+   * 
+   * @return Items
+   */
+  public List<T> getItems() {
+    return this.items;
+  }
+
+  /**
+   * Getter for cursor of the next page.
+   * 
+   * @return Cursor of the next page or <code>null</code> if there are no more pages
+   */
+  public String getNextCursor() {
+    return this.nextCursor;
+  }
+}
@@ -0,0 +1,64 @@
+package no.ntnu.idata2502.project.todoapp.dtos;
+
+import java.util.List;
+
+/**
+ * The TodoBatchUpdateDto class represents the data transfer object (DTO) for updating the
+ * completion status of many todos at once. The todos are either all todos in a list or the todos
+ * with the specified IDs.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public class TodoBatchUpdateDto {
+  private Long listId;
+  private List<Long> ids;
+  private boolean complete;
+
+  /**
+   * Default constructor required by Jackson.
+   */
+  public TodoBatchUpdateDto() {
+    // Intentionally left blank
+  }
+
+  /**
+   * Constructor for the TodoBatchUpdateDto class.
+   * 
+   * @param listId The specified list ID
+   * @param ids The specified todo IDs
+   * @param complete The specified completion status
+   */
+  public TodoBatchUpdateDto(Long listId, List<Long> ids, boolean complete) {
+    this.listId = listId;
+    this.ids = ids;
+    this.complete = complete;
+  }
+
+  /**
+   * Getter for list ID.
+   * 
+   * @return List ID
+   */
+  public Long getListId() {
+    return this.listId;
+  }
+
+  /**
+   * Getter for todo IDs.
+   * 
+   * @return Todo IDs
+   */
+  public List<Long> getIds() {
+    return this.ids;
+  }
+
+  /**
+   * Getter for completion status.
+   * 
+   * @return Completion status
+   */
+  public boolean isComplete() {
+    return this.complete;
+  }
+}
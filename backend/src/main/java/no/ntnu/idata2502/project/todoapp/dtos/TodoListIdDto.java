@@ -0,0 +1,26 @@
+package no.ntnu.idata2502.project.todoapp.dtos;
+
+/**
+ * The TodoListIdDto interface represents the data transfer object (DTO) for the ID of a todo
+ * together with the ID of the list containing it, read as a projection instead of loading the
+ * todo.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public interface TodoListIdDto {
+
+  /**
+   * Getter for ID.
+   * 
+   * @return ID
+   */
+  Long getId();
+
+  /**
+   * Getter for list ID.
+   * 
+   * @return List ID
+   */
+  Long getListId();
+}
@@ -0,0 +1,125 @@
+package no.ntnu.idata2502.project.todoapp.entites;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * The IdempotencyKeyEntity class represents an idempotency key of a request creating a resource,
+ * such as a {@link ListEntity list} or {@link TodoEntity todo}. The class contains JPA
+ * annotations for ORM operations.
+ * 
+ * <p>The fingerprint identifies the request the key was first used for, and the resource ID is
+ * the ID of the resource that request created. A new key is always inserted, never merged, so a
+ * key used by two concurrent requests is only inserted by one of them.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@Entity
+@Table(
+  name = "idempotency_key",
+  indexes = @Index(name = "idx_idempotency_key_created_at", columnList = "created_at")
+)
+public class IdempotencyKeyEntity implements Persistable<String> {
+
+  @Id
+  @Column(name = "idempotency_key")
+  private String key;
+
+  @Column(name = "fingerprint", nullable = false)
+  private String fingerprint;
+
+  @Column(name = "resource_id")
+  private Long resourceId;
+
+  @Column(name = "created_at", nullable = false)
+  private long createdAt;
+
+  @Transient
+  private boolean inserted;
+
+  /**
+   * Default constructor required by JPA.
+   */
+  public IdempotencyKeyEntity() {
+    // Intentionally left blank
+  }
+
+  /**
+   * Constructor for the IdempotencyKeyEntity class.
+   * 
+   * @param key The specified key
+   * @param fingerprint The specified fingerprint of the request
+   * @param resourceId The specified ID of the created resource
+   * @param createdAt The specified creation time, in milliseconds since the epoch
+   */
+  public IdempotencyKeyEntity(String key, String fingerprint, Long resourceId, long createdAt) {
+    this.key = key;
+    this.fingerprint = fingerprint;
+    this.resourceId = resourceId;
+    this.createdAt = createdAt;
+  }
+
+  @Override
+  public String getId() {
+    return this.key;
+  }
+
+  @Override
+  public boolean isNew() {
+    return !this.inserted;
+  }
+
+  /**
+   * Marks the key as inserted once it is persisted or loaded, so it is never inserted again.
+   */
+  @PostLoad
+  @PostPersist
+  void markInserted() {
+    this.inserted = true;
+  }
+
+  /**
+   * Getter for fingerprint.
+   * 
+   * @return Fingerprint
+   */
+  public String getFingerprint() {
+    return this.fingerprint;
+  }
+
+  /**
+   * Getter for resource ID.
+   * 
+   * @return Resource ID
+   */
+  public Long getResourceId() {
+    return this.resourceId;
+  }
+
+  /**
+   * Setter for resource ID.
+   * 
+   * @param resourceId The specified resource ID
+   */
+  public void setResourceId(Long resourceId) {
+    this.resourceId = resourceId;
+  }
+
+  /**
+   * Getter for creation time.
+   * 
+   * @return Creation time, in milliseconds since the epoch
+   */
+  public long getCreatedAt() {
+    return this.createdAt;
+  }
+}
@@ -1,40 +1,69 @@
 package no.ntnu.idata2502.project.todoapp.entites;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import no.ntnu.idata2502.project.todoapp.ids.SnowflakeId;
 
 /**
  * The ListEntity class represents a specific list of {@link TodoEntity todos}. The class contains
  * JPA annotations for ORM operations.
  * 
+ * <p>The todos of lists are batch fetched, meaning that the todos of up to
+ * {@value ListEntity#TODOS_BATCH_SIZE} lists are loaded in one query when the todos of one of them
+ * are first accessed. This keeps the number of queries constant when serializing a page of
+ * lists.</p>
+ * 
+ * <p>IDs are time-ordered and assigned in-process when a list is persisted, like the IDs of
+ * {@link TodoEntity todos}, so inserts of lists are batched as well.</p>
+ * 
+ * <p>Lists are optimistically locked with a version, like {@link TodoEntity todos}.</p>
+ * 
  * @author Candidate 10006
- * @version v1.1.2 (2025.04.29)
+ * @version v1.5.0 (2026.10.18)
  */
 @Entity
 @Table(name = "list")
 @Schema(description = "List entity representing a specific list of todos")
 public class ListEntity {
 
+  /**
+   * The number of lists to load todos for in one query. Matches the maximum page size.
+   */
+  public static final int TODOS_BATCH_SIZE = 100;
+
+  /**
+   * The maximum length of a title, which is the length of the title column.
+   */
+  public static final int MAX_TITLE_LENGTH = 255;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @SnowflakeId
   @Column(name = "list_id")
   @Schema(description = "Unique ID")
   private Long id;
 
-  @Column(name = "title")
+  @Column(name = "title", length = MAX_TITLE_LENGTH)
   @Schema(description = "List title")
   private String title;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  @Schema(description = "Version of the list, incremented on every change")
+  private long version;
+
   @OneToMany(mappedBy = "list", cascade = CascadeType.ALL)
+  @BatchSize(size = TODOS_BATCH_SIZE)
   @Schema(description = "Todos in list")
   private List<TodoEntity> todos;
 
@@ -63,6 +92,15 @@ public class ListEntity {
     return this.id;
   }
 
+  /**
+   * Getter for version.
+   * 
+   * @return Version
+   */
+  public long getVersion() {
+    return this.version;
+  }
+
   /**
    * Getter for title.
    * 
@@ -82,11 +120,28 @@ public class ListEntity {
   }
 
   /**
-   * Returns true if the list is valid or false otherwise.
+   * Adds the specified todo to the list. The list of the specified todo is set to this list, so
+   * that the todo is added together with the list.
+   * 
+   * @param todo The specified todo
+   */
+  public void addTodo(TodoEntity todo) {
+    if (this.todos == null) {
+      this.todos = new ArrayList<>();
+    }
+    todo.setList(this);
+    this.todos.add(todo);
+  }
+
+  /**
+   * Returns true if the list is valid or false otherwise. A list is valid if its title is not
+   * blank and fits in the title column.
    * 
    * @return True if the list is valid or false otherwise
    */
   public boolean isValid() {
-    return this.title != null && !this.title.isBlank();
+    return this.title != null
+      && !this.title.isBlank()
+      && this.title.length() <= MAX_TITLE_LENGTH;
   }
 }
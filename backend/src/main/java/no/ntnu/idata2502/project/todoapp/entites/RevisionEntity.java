@@ -0,0 +1,59 @@
+package no.ntnu.idata2502.project.todoapp.entites;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The RevisionEntity class represents the global revision of all {@link ListEntity lists} and
+ * {@link TodoEntity todos}. The class contains JPA annotations for ORM operations.
+ * 
+ * <p>There is a single revision, with the ID {@value RevisionEntity#GLOBAL_ID}, which is
+ * incremented after every transaction that changes lists or todos. The revision is never exposed
+ * through the API other than as an entity tag.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.1.0 (2026.10.18)
+ */
+@Entity
+@Table(name = "revision")
+public class RevisionEntity {
+
+  /**
+   * The ID of the global revision.
+   */
+  public static final int GLOBAL_ID = 1;
+
+  @Id
+  @Column(name = "revision_id")
+  private Integer id;
+
+  @Column(name = "revision", nullable = false)
+  private long revision;
+
+  /**
+   * Default constructor required by JPA.
+   */
+  public RevisionEntity() {
+    // Intentionally left blank
+  }
+
+  /**
+   * Getter for ID.
+   * 
+   * @return ID
+   */
+  public Integer getId() {
+    return this.id;
+  }
+
+  /**
+   * Getter for revision.
+   * 
+   * @return Revision
+   */
+  public long getRevision() {
+    return this.revision;
+  }
+}
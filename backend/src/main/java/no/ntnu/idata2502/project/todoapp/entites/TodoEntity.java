@@ -5,32 +5,62 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import no.ntnu.idata2502.project.todoapp.ids.SnowflakeId;
 
 /**
  * The TodoEntity class represents a specific todo. The class contains JPA annotations for ORM
  * operations.
  * 
+ * <p>IDs are time-ordered and assigned in-process when a todo is persisted, see
+ * {@link SnowflakeId}. No round trip is needed to learn the ID, so inserts of todos are
+ * batched.</p>
+ * 
+ * <p>The table is created by the schema migrations. The indexes on list ID and on list ID and
+ * completion status are declared here as well, so that they also exist in schemas generated from
+ * the entities.</p>
+ * 
+ * <p>Both indexes are needed, although one is a prefix of the other. InnoDB appends the primary
+ * key to secondary indexes, so the index on list ID orders the todos of a list by ID, while the
+ * composite index orders them by completion status first. Unfiltered pages of a list's todos are
+ * therefore only read in ID order without sorting from the index on list ID. The composite index
+ * serves the completion counts and the pages filtered by completion status.</p>
+ * 
+ * <p>Todos are optimistically locked with a version, which is incremented on every change,
+ * including changes made with bulk statements. Clients send the version they read as an entity tag
+ * to detect conflicting changes.</p>
+ * 
  * @author Candidate 10006
- * @version v1.2.1 (2025.04.30)
+ * @version v1.9.0 (2026.10.18)
  */
 @Entity
-@Table(name = "todo")
+@Table(
+  name = "todo",
+  indexes = {
+    @Index(name = "idx_todo_list_id", columnList = "list_id"),
+    @Index(name = "idx_todo_list_id_complete", columnList = "list_id, complete")
+  }
+)
 @Schema(description = "Todo entity representing a specific todo")
 public class TodoEntity {
 
+  /**
+   * The maximum length of a description, which is the length of the description column.
+   */
+  public static final int MAX_DESCRIPTION_LENGTH = 255;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @SnowflakeId
   @Column(name = "todo_id")
   @Schema(description = "Unique ID")
   private Long id;
 
-  @Column(name = "description")
+  @Column(name = "description", length = MAX_DESCRIPTION_LENGTH)
   @Schema(description = "Todo description")
   private String description;
 
@@ -38,6 +68,11 @@ public class TodoEntity {
   @Schema(description = "Todo completion status")
   private boolean complete;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  @Schema(description = "Version of the todo, incremented on every change")
+  private long version;
+
   @JsonIgnore
   @ManyToOne
   @JoinColumn(name = "list_id", nullable = false)
@@ -70,6 +105,15 @@ public class TodoEntity {
     return this.id;
   }
 
+  /**
+   * Getter for version.
+   * 
+   * @return Version
+   */
+  public long getVersion() {
+    return this.version;
+  }
+
   /**
    * Getter for description.
    * 
@@ -116,11 +160,14 @@ public class TodoEntity {
   }
 
   /**
-   * Returns true if the todo is valid or false otherwise.
+   * Returns true if the todo is valid or false otherwise. A todo is valid if its description is
+   * not blank and fits in the description column.
    * 
    * @return True if the todo is valid or false otherwise
    */
   public boolean isValid() {
-    return this.description != null && !this.description.isBlank();
+    return this.description != null
+      && !this.description.isBlank()
+      && this.description.length() <= MAX_DESCRIPTION_LENGTH;
   }
 }
@@ -0,0 +1,248 @@
+package no.ntnu.idata2502.project.todoapp.events;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * The ChangeBroadcaster class represents the broadcaster of {@link ChangeEvent change events} to
+ * subscribers connected with server-sent events (SSE).
+ * 
+ * <p>Events are broadcast once the transaction publishing them commits, so subscribers never see
+ * changes that are rolled back. Broadcasting never blocks: each subscriber has a bounded queue,
+ * drained by its own virtual thread, so a slow subscriber only delays itself. When the queue of a
+ * subscriber is full, its pending events are coalesced into a single
+ * {@link ChangeEvent.Type#RESYNC resync} event, telling it to read the lists again. Each event
+ * is serialized once, and the same serialized event is queued for every subscriber.</p>
+ * 
+ * <p>Subscribers are sent a heartbeat comment periodically, so that idle connections are not
+ * closed by proxies and closed connections are detected.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.1.0 (2026.10.18)
+ */
+@Component
+public class ChangeBroadcaster {
+
+  /**
+   * The maximum number of events queued for a subscriber.
+   */
+  public static final int QUEUE_CAPACITY = 256;
+
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  @Value("${todoapp.events.max-subscribers:10000}")
+  private int maxSubscribers;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private Counter resyncs;
+
+  private Set<DataWithMediaType> resync;
+
+  private final Logger logger = LoggerFactory.getLogger(ChangeBroadcaster.class);
+
+  /**
+   * Registers the metrics of the broadcaster and serializes the resync event.
+   */
+  @PostConstruct
+  public void init() {
+    Gauge.builder("todoapp.events.subscribers", this.subscribers, Set::size)
+      .description("Subscribers to change events")
+      .register(this.meterRegistry);
+    this.resyncs = Counter.builder("todoapp.events.resyncs")
+      .description("Times pending change events were coalesced into a resync event")
+      .register(this.meterRegistry);
+    this.resync = this.toSse(new ChangeEvent(ChangeEvent.Type.RESYNC, null, null, null));
+  }
+
+  /**
+   * Stops draining the queues of the subscribers.
+   */
+  @PreDestroy
+  public void shutdown() {
+    this.executor.shutdownNow();
+  }
+
+  /**
+   * Subscribes to change events. The subscription ends when the returned emitter completes or
+   * times out, or when sending to it fails.
+   * 
+   * @return The emitter sending the events
+   * @throws IllegalStateException If there are too many subscribers
+   */
+  public SseEmitter subscribe() {
+    if (this.subscribers.size() >= this.maxSubscribers) {
+      throw new IllegalStateException("There are too many subscribers");
+    }
+    SseEmitter emitter = new SseEmitter();
+    Subscriber subscriber = new Subscriber(emitter);
+    this.subscribers.add(subscriber);
+    emitter.onCompletion(() -> this.subscribers.remove(subscriber));
+    emitter.onError(e -> this.subscribers.remove(subscriber));
+    // Sends the response headers right away, so the client knows it is subscribed
+    subscriber.offer(comment("subscribed"));
+    return emitter;
+  }
+
+  /**
+   * Broadcasts the specified event to all subscribers once the transaction publishing it commits,
+   * or right away if it is not published within a transaction.
+   * 
+   * @param event The specified event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void broadcast(ChangeEvent event) {
+    if (!this.subscribers.isEmpty()) {
+      Set<DataWithMediaType> sse = this.toSse(event);
+      for (Subscriber subscriber : this.subscribers) {
+        subscriber.offer(sse);
+      }
+    }
+  }
+
+  /**
+   * Sends a heartbeat comment to all subscribers.
+   */
+  @Scheduled(
+    fixedRateString = "${todoapp.events.heartbeat-interval:15s}",
+    initialDelayString = "${todoapp.events.heartbeat-interval:15s}"
+  )
+  public void heartbeat() {
+    Set<DataWithMediaType> heartbeat = comment("heartbeat");
+    for (Subscriber subscriber : this.subscribers) {
+      subscriber.offer(heartbeat);
+    }
+  }
+
+  /**
+   * Converts the specified event to a server-sent event named after its type, with the event
+   * serialized as JSON. The server-sent event is never changed, so it can be sent to every
+   * subscriber.
+   * 
+   * @param event The specified event
+   * @return The server-sent event
+   * @throws IllegalStateException If the specified event cannot be serialized
+   */
+  private Set<DataWithMediaType> toSse(ChangeEvent event) {
+    String data;
+    try {
+      data = this.objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("The change event cannot be serialized", e);
+    }
+    return Collections.unmodifiableSet(
+      SseEmitter.event().name(event.getType().name().toLowerCase()).data(data).build()
+    );
+  }
+
+  /**
+   * Creates a server-sent comment with the specified text.
+   * 
+   * @param text The specified text
+   * @return The server-sent comment
+   */
+  private static Set<DataWithMediaType> comment(String text) {
+    return Collections.unmodifiableSet(SseEmitter.event().comment(text).build());
+  }
+
+  /**
+   * The Subscriber class represents a subscriber to change events, with its own bounded queue of
+   * events waiting to be sent.
+   */
+  private class Subscriber {
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> queue =
+      new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * Constructor for the Subscriber class.
+     * 
+     * @param emitter The specified emitter
+     */
+    Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    /**
+     * Queues the specified event and makes sure the queue is being drained. If the queue is full,
+     * the queued events are replaced by a resync event.
+     * 
+     * @param event The specified event
+     */
+    synchronized void offer(Set<DataWithMediaType> event) {
+      if (!this.queue.offer(event)) {
+        this.queue.clear();
+        this.queue.offer(ChangeBroadcaster.this.resync);
+        ChangeBroadcaster.this.resyncs.increment();
+      }
+      this.drain();
+    }
+
+    /**
+     * Starts draining the queue on a virtual thread, unless it is already being drained.
+     */
+    private void drain() {
+      if (this.draining.compareAndSet(false, true)) {
+        ChangeBroadcaster.this.executor.execute(this::send);
+      }
+    }
+
+    /**
+     * Sends the queued events until the queue is empty. The subscriber is removed if sending
+     * fails, which happens when the client has disconnected.
+     */
+    private void send() {
+      try {
+        Set<DataWithMediaType> event;
+        while ((event = this.queue.poll()) != null) {
+          this.emitter.send(event);
+        }
+      } catch (IOException | IllegalStateException e) {
+        ChangeBroadcaster.this.logger.debug("Subscriber disconnected, removing subscriber");
+        ChangeBroadcaster.this.subscribers.remove(this);
+        this.queue.clear();
+        this.emitter.completeWithError(e);
+      } finally {
+        this.draining.set(false);
+      }
+      // An event may have been queued after the last poll but before draining was reset
+      if (!this.queue.isEmpty() && ChangeBroadcaster.this.subscribers.contains(this)) {
+        this.drain();
+      }
+    }
+  }
+}
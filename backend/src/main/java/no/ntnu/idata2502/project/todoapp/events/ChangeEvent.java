@@ -0,0 +1,114 @@
+package no.ntnu.idata2502.project.todoapp.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The ChangeEvent class represents a change to a list or todo, published by the services when the
+ * change is made and broadcast to subscribers once the change is committed.
+ * 
+ * <p>The ID is the ID of the changed list or todo, or <code>null</code> if the change applies to
+ * all todos in a list. The list ID is the ID of the changed list or of the list containing the
+ * changed todo. The completion status is only set for created and updated todos, and the
+ * description only for created todos. Resync events have none of them. Fields that are not set are
+ * left out when serialized.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.4.0 (2026.10.18)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEvent {
+  private Type type;
+  private Long id;
+  private Long listId;
+  private Boolean complete;
+  private String description;
+
+  /**
+   * The Type enum represents the type of a change.
+   */
+  public enum Type {
+    LIST_CREATED,
+    LIST_DELETED,
+    TODO_CREATED,
+    TODO_UPDATED,
+    TODO_DELETED,
+    /**
+     * Signals that changes were dropped, and that the subscriber must read the lists again.
+     */
+    RESYNC
+  }
+
+  /**
+   * Constructor for the ChangeEvent class.
+   * 
+   * @param type The specified type
+   * @param id The specified ID
+   * @param listId The specified list ID
+   * @param complete The specified completion status
+   */
+  public ChangeEvent(Type type, Long id, Long listId, Boolean complete) {
+    this(type, id, listId, complete, null);
+  }
+
+  /**
+   * Constructor for the ChangeEvent class.
+   * 
+   * @param type The specified type
+   * @param id The specified ID
+   * @param listId The specified list ID
+   * @param complete The specified completion status
+   * @param description The specified description
+   */
+  public ChangeEvent(Type type, Long id, Long listId, Boolean complete, String description) {
+    this.type = type;
+    this.id = id;
+    this.listId = listId;
+    this.complete = complete;
+    this.description = description;
+  }
+
+  /**
+   * Getter for type.
+   * 
+   * @return Type
+   */
+  public Type getType() {
+    return this.type;
+  }
+
+  /**
+   * Getter for ID.
+   * 
+   * @return ID
+   */
+  public Long getId() {
+    return this.id;
+  }
+
+  /**
+   * Getter for list ID.
+   * 
+   * @return List ID
+   */
+  public Long getListId() {
+    return this.listId;
+  }
+
+  /**
+   * Getter for completion status.
+   * 
+   * @return Completion status
+   */
+  public Boolean getComplete() {
+    return this.complete;
+  }
+
+  /**
+   * Getter for description.
+   * 
+   * @return Description
+   */
+  public String getDescription() {
+    return this.description;
+  }
+}
@@ -0,0 +1,202 @@
+package no.ntnu.idata2502.project.todoapp.events;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import no.ntnu.idata2502.project.todoapp.config.WebSocketConfig;
+
+/**
+ * The DeltaBatcher class represents the batcher of {@link ChangeEvent change events} sent over
+ * the STOMP sync channel, see {@link WebSocketConfig}.
+ * 
+ * <p>Committed changes are collected per destination and sent as one frame, a JSON array of
+ * changes, on every tick. Changes to todos are sent to <code>/topic/lists/{listId}</code>, lists
+ * being created to <code>/topic/lists</code> and lists being deleted to both. The services set the
+ * list ID of every change to a todo, and a change to a todo without one is sent to
+ * <code>/topic/lists</code> rather than dropped.</p>
+ * 
+ * <p>Changes to the same todo within a tick are coalesced, so a burst of toggles is sent as the
+ * last state of each todo only. An update of a todo created in the same tick is merged into the
+ * creation, and a todo both created and deleted in the same tick is left out.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.2.0 (2026.10.18)
+ */
+@Component
+public class DeltaBatcher {
+
+  /**
+   * The destination of changes to lists.
+   */
+  public static final String LISTS_TOPIC = "/topic/lists";
+
+  private final Logger logger = LoggerFactory.getLogger(DeltaBatcher.class);
+
+  private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+  private final Counter coalesced;
+
+  @Autowired
+  private SimpMessagingTemplate messagingTemplate;
+
+  /**
+   * Constructor for the DeltaBatcher class.
+   * 
+   * @param registry The specified meter registry
+   */
+  public DeltaBatcher(MeterRegistry registry) {
+    this.coalesced = Counter.builder("todoapp.sync.coalesced")
+      .description("Changes not sent because a later change to the same todo superseded them")
+      .register(registry);
+  }
+
+  /**
+   * Gets the destination of changes to the list with the specified ID.
+   * 
+   * @param listId The specified list ID
+   * @return The destination
+   */
+  public static String listTopic(Long listId) {
+    return LISTS_TOPIC + "/" + listId;
+  }
+
+  /**
+   * Adds the specified committed change to the batches of its destinations. Changes made outside
+   * a transaction are added right away.
+   * 
+   * @param event The specified event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void add(ChangeEvent event) {
+    switch (event.getType()) {
+      case LIST_CREATED -> this.add(LISTS_TOPIC, event);
+      case LIST_DELETED -> {
+        this.add(LISTS_TOPIC, event);
+        this.add(listTopic(event.getListId()), event);
+      }
+      case TODO_CREATED, TODO_UPDATED, TODO_DELETED -> this.add(
+        event.getListId() == null ? LISTS_TOPIC : listTopic(event.getListId()),
+        event
+      );
+      default -> this.logger.debug("Ignoring change event of type " + event.getType());
+    }
+  }
+
+  /**
+   * Sends the batched changes of every destination as one frame per destination.
+   */
+  @Scheduled(fixedRateString = "${todoapp.sync.tick:50ms}")
+  public void flush() {
+    for (String destination : this.batches.keySet()) {
+      // Removing the batch is atomic with adding to it, so no change is lost between the two
+      Batch batch = this.batches.remove(destination);
+      if (batch != null && !batch.isEmpty()) {
+        this.messagingTemplate.convertAndSend(destination, batch.events());
+      }
+    }
+  }
+
+  /**
+   * Adds the specified change to the batch of the specified destination.
+   * 
+   * @param destination The specified destination
+   * @param event The specified event
+   */
+  private void add(String destination, ChangeEvent event) {
+    this.batches.compute(destination, (key, batch) -> {
+      Batch result = batch == null ? new Batch() : batch;
+      if (result.add(event)) {
+        this.coalesced.increment();
+      }
+      return result;
+    });
+  }
+
+  /**
+   * The Batch class represents the changes to send to one destination on the next tick, in the
+   * order they were made. It is only accessed while its destination is locked in the map of
+   * batches.
+   */
+  static class Batch {
+    private final Map<String, ChangeEvent> events = new LinkedHashMap<>();
+    private int sequence;
+
+    /**
+     * Adds the specified change, coalescing it with an earlier change to the same todo. Changes
+     * to lists and to all todos in a list are never coalesced.
+     * 
+     * @param event The specified event
+     * @return True if an earlier change was coalesced or false otherwise
+     */
+    boolean add(ChangeEvent event) {
+      boolean todo = event.getType() != ChangeEvent.Type.LIST_CREATED
+        && event.getType() != ChangeEvent.Type.LIST_DELETED
+        && event.getId() != null;
+      String key = todo ? "todo:" + event.getId() : "change:" + this.sequence++;
+      // Removing the earlier change moves the coalesced change to the end
+      ChangeEvent earlier = this.events.remove(key);
+      ChangeEvent merged = earlier == null ? event : merge(earlier, event);
+      if (merged != null) {
+        this.events.put(key, merged);
+      }
+      return earlier != null;
+    }
+
+    /**
+     * Checks if the batch is empty.
+     * 
+     * @return True if the batch is empty or false otherwise
+     */
+    boolean isEmpty() {
+      return this.events.isEmpty();
+    }
+
+    /**
+     * Gets the changes in the batch.
+     * 
+     * @return The changes
+     */
+    List<ChangeEvent> events() {
+      return new ArrayList<>(this.events.values());
+    }
+
+    /**
+     * Merges the specified earlier and later changes to the same todo.
+     * 
+     * @param earlier The specified earlier change
+     * @param later The specified later change
+     * @return The merged change, or <code>null</code> if the changes cancel out
+     */
+    private static ChangeEvent merge(ChangeEvent earlier, ChangeEvent later) {
+      ChangeEvent merged = later;
+      if (earlier.getType() == ChangeEvent.Type.TODO_CREATED) {
+        if (later.getType() == ChangeEvent.Type.TODO_DELETED) {
+          merged = null;
+        } else if (later.getType() == ChangeEvent.Type.TODO_UPDATED) {
+          merged = new ChangeEvent(
+            ChangeEvent.Type.TODO_CREATED,
+            earlier.getId(),
+            earlier.getListId(),
+            later.getComplete(),
+            earlier.getDescription()
+          );
+        }
+      }
+      return merged;
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package no.ntnu.idata2502.project.todoapp.ids;
+
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * The SnowflakeIdGenerator class represents a generator of time-ordered IDs, allocated in-process
+ * without a round trip to the database.
+ * 
+ * <p>An ID is made of the milliseconds since {@link SnowflakeIdGenerator#EPOCH} in the high
+ * {@value SnowflakeIdGenerator#TIMESTAMP_BITS} bits, the node ID in the next
+ * {@value SnowflakeIdGenerator#NODE_BITS} bits and a sequence number in the low
+ * {@value SnowflakeIdGenerator#SEQUENCE_BITS} bits. IDs generated later are larger, so they are
+ * appended to the right of primary key indexes like auto-incremented IDs.</p>
+ * 
+ * <p>The IDs fit in 53 bits, so they are exact as JavaScript numbers in the frontend. This leaves
+ * room for {@value SnowflakeIdGenerator#MAX_NODE_ID} + 1 nodes generating 256 IDs per millisecond
+ * each until 2094.</p>
+ * 
+ * <p>The generator never waits. When the sequence of a millisecond is exhausted, or the clock moves
+ * backwards, the generator moves on to the next millisecond ahead of the clock, and catches up once
+ * the clock does.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public class SnowflakeIdGenerator {
+
+  /**
+   * The time IDs count milliseconds from, 2025-01-01T00:00:00Z.
+   */
+  public static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+  /**
+   * The number of bits of the timestamp.
+   */
+  public static final int TIMESTAMP_BITS = 41;
+
+  /**
+   * The number of bits of the node ID.
+   */
+  public static final int NODE_BITS = 4;
+
+  /**
+   * The number of bits of the sequence number.
+   */
+  public static final int SEQUENCE_BITS = 8;
+
+  /**
+   * The largest node ID.
+   */
+  public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+  private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+  private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+  private final long nodeId;
+
+  private final LongSupplier clock;
+
+  private long lastTimestamp = -1;
+
+  private int sequence;
+
+  /**
+   * Constructor for the SnowflakeIdGenerator class.
+   * 
+   * @param nodeId The specified node ID, unique among the running nodes
+   * @throws IllegalArgumentException If the specified node ID is invalid
+   */
+  public SnowflakeIdGenerator(int nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  /**
+   * Constructor for the SnowflakeIdGenerator class.
+   * 
+   * @param nodeId The specified node ID, unique among the running nodes
+   * @param clock The specified clock, returning milliseconds since the Unix epoch
+   * @throws IllegalArgumentException If the specified node ID is invalid
+   */
+  public SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("The specified node ID is invalid");
+    }
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  /**
+   * Generates the next ID.
+   * 
+   * @return The ID
+   * @throws IllegalStateException If the timestamp no longer fits in the ID
+   */
+  public synchronized long next() {
+    long timestamp = Math.max(this.clock.getAsLong() - EPOCH, this.lastTimestamp);
+    if (timestamp == this.lastTimestamp) {
+      this.sequence = (this.sequence + 1) & MAX_SEQUENCE;
+      if (this.sequence == 0) {
+        timestamp++;
+      }
+    } else {
+      this.sequence = 0;
+    }
+    if (timestamp < 0 || timestamp > MAX_TIMESTAMP) {
+      throw new IllegalStateException("The timestamp is out of range of the IDs");
+    }
+    this.lastTimestamp = timestamp;
+    return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+      | (this.nodeId << SEQUENCE_BITS)
+      | this.sequence;
+  }
+
+  /**
+   * Gets the node ID of the specified ID.
+   * 
+   * @param id The specified ID
+   * @return The node ID
+   */
+  public static int nodeId(long id) {
+    return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+  }
+
+  /**
+   * Gets the time the specified ID was generated, to the millisecond.
+   * 
+   * @param id The specified ID
+   * @return The time
+   */
+  public static Instant timestamp(long id) {
+    return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+  }
+}
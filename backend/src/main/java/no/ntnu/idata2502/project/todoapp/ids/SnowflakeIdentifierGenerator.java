@@ -0,0 +1,68 @@
+package no.ntnu.idata2502.project.todoapp.ids;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+/**
+ * The SnowflakeIdentifierGenerator class represents the Hibernate generator of IDs annotated with
+ * {@link SnowflakeId}. Hibernate creates one generator per entity, and each generates IDs with its
+ * own {@link SnowflakeIdGenerator}.
+ * 
+ * <p>The node ID is read from the Hibernate setting {@value #NODE_ID_SETTING}, which every running
+ * instance of the application must set to a different value.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+  /**
+   * The name of the Hibernate setting containing the node ID.
+   */
+  public static final String NODE_ID_SETTING = "todoapp.node-id";
+
+  private final SnowflakeIdGenerator generator;
+
+  /**
+   * Constructor for the SnowflakeIdentifierGenerator class, called by Hibernate.
+   * 
+   * @param annotation The specified annotation of the ID
+   * @param member The specified annotated field or method
+   * @param context The specified creation context
+   */
+  public SnowflakeIdentifierGenerator(
+    SnowflakeId annotation,
+    Member member,
+    GeneratorCreationContext context
+  ) {
+    Object nodeId = context.getServiceRegistry()
+      .getService(ConfigurationService.class)
+      .getSettings()
+      .get(NODE_ID_SETTING);
+    this.generator = new SnowflakeIdGenerator(
+      nodeId == null ? 0 : Integer.parseInt(nodeId.toString())
+    );
+  }
+
+  @Override
+  public Object generate(
+    SharedSessionContractImplementor session,
+    Object owner,
+    Object currentValue,
+    EventType eventType
+  ) {
+    return this.generator.next();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -0,0 +1,122 @@
+package no.ntnu.idata2502.project.todoapp.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import no.ntnu.idata2502.project.todoapp.TodoappApplication;
+import no.ntnu.idata2502.project.todoapp.metrics.RepositoryMetricsAspect.RepositoryMethod;
+
+/**
+ * The QueryMetricsListener class represents the listener that records metrics of the SQL
+ * statements executed through the data source. Every statement, or batch of statements, is timed
+ * with the <code>todoapp.query</code> timer, tagged with the statement type and the repository
+ * method that executed it. The count of the timer is the number of statements, so comparing it
+ * with the count of the <code>todoapp.repository</code> timer reveals repository methods that
+ * execute more statements than expected, such as N+1 queries.
+ * 
+ * <p>Statements that take at least the slow query threshold are logged with their SQL and the
+ * application code that caused them.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.1.0 (2026.10.18)
+ */
+public class QueryMetricsListener implements QueryExecutionListener {
+
+  /**
+   * The name of the timer of SQL statements.
+   */
+  public static final String QUERY_TIMER = "todoapp.query";
+
+  private static final String APPLICATION_PACKAGE = TodoappApplication.class.getPackageName();
+
+  private static final String METRICS_PACKAGE = QueryMetricsListener.class.getPackageName();
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  private final Duration slowQueryThreshold;
+
+  private final Logger logger = LoggerFactory.getLogger(QueryMetricsListener.class);
+
+  /**
+   * Constructor for the QueryMetricsListener class. The meter registry is resolved on the first
+   * statement, since the data source is created before the registry.
+   * 
+   * @param meterRegistry The specified provider of the meter registry
+   * @param slowQueryThreshold The specified slow query threshold
+   */
+  public QueryMetricsListener(
+    ObjectProvider<MeterRegistry> meterRegistry,
+    Duration slowQueryThreshold
+  ) {
+    this.meterRegistry = meterRegistry;
+    this.slowQueryThreshold = slowQueryThreshold;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+    // Nothing to do before a statement, the elapsed time is measured by the proxy
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+    RepositoryMethod repositoryMethod = Optional.ofNullable(RepositoryMetricsAspect.current())
+      .orElse(new RepositoryMethod(RepositoryMetricsAspect.NONE, RepositoryMetricsAspect.NONE));
+    String type = queryInfoList.isEmpty()
+      ? "other"
+      : QueryUtils.getQueryType(queryInfoList.get(0).getQuery()).name().toLowerCase();
+    long elapsed = executionInfo.getElapsedTime();
+
+    MeterRegistry registry = this.meterRegistry.getIfAvailable();
+    if (registry != null) {
+      Timer.builder(QUERY_TIMER)
+        .description("Time of SQL statements")
+        .tag("repository", repositoryMethod.repository())
+        .tag("method", repositoryMethod.method())
+        .tag("type", type)
+        .tag("batch", String.valueOf(executionInfo.isBatch()))
+        .register(registry)
+        .record(elapsed, TimeUnit.MILLISECONDS);
+    }
+
+    if (!this.slowQueryThreshold.isNegative() && elapsed >= this.slowQueryThreshold.toMillis()) {
+      this.logger.warn(
+        "Slow query ({} ms) from {}.{} at {}: {}",
+        elapsed,
+        repositoryMethod.repository(),
+        repositoryMethod.method(),
+        callSite(),
+        queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "))
+      );
+    }
+  }
+
+  /**
+   * Finds the application code that caused the statement, which is the innermost stack frame in
+   * the application outside of this package.
+   * 
+   * @return The call site, or <code>unknown</code> if the statement was not caused by the
+   *         application
+   */
+  private static String callSite() {
+    return StackWalker.getInstance().walk(frames -> frames
+      .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+        && !frame.getClassName().startsWith(METRICS_PACKAGE)
+        && !frame.getClassName().contains("$$"))
+      .findFirst()
+      .map(StackWalker.StackFrame::toString)
+      .orElse("unknown"));
+  }
+}
@@ -0,0 +1,199 @@
+package no.ntnu.idata2502.project.todoapp.metrics;
+
+import java.lang.reflect.Method;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.BaseStream;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The RepositoryMetricsAspect class represents the aspect that records metrics of repository
+ * calls. Every call to a repository method is timed with the <code>todoapp.repository</code>
+ * timer, and the number of rows it returns or affects is recorded in the
+ * <code>todoapp.repository.rows</code> summary. Both are tagged with the repository and method.
+ * Calls returning a single value, such as a count or whether an entity exists, do not return
+ * rows, so they are only timed.
+ * 
+ * <p>The repository method of the ongoing call is also kept for the calling thread, so that the
+ * SQL statements the call executes can be tagged with it, see {@link QueryMetricsListener}.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.1.0 (2026.10.18)
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+  /**
+   * The name of the timer of repository calls.
+   */
+  public static final String REPOSITORY_TIMER = "todoapp.repository";
+
+  /**
+   * The name of the summary of rows returned or affected by repository calls.
+   */
+  public static final String REPOSITORY_ROWS = "todoapp.repository.rows";
+
+  /**
+   * The tag value used when a statement is not executed by a repository call, such as when
+   * Hibernate flushes changes on commit or loads a lazy association.
+   */
+  static final String NONE = "none";
+
+  private static final ThreadLocal<RepositoryMethod> CURRENT = new ThreadLocal<>();
+
+  private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Gets the repository method of the ongoing repository call on the calling thread.
+   * 
+   * @return The repository method, or <code>null</code> if there is no ongoing call
+   */
+  static RepositoryMethod current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Records the metrics of the specified repository call.
+   * 
+   * @param joinPoint The specified repository call
+   * @return The result of the call
+   * @throws Throwable If the call fails
+   */
+  @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+  public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    RepositoryMethod repositoryMethod = new RepositoryMethod(
+      this.repositoryName(joinPoint.getThis()),
+      method.getName()
+    );
+    RepositoryMethod previous = CURRENT.get();
+    CURRENT.set(repositoryMethod);
+    Timer.Sample sample = Timer.start(this.meterRegistry);
+    String exception = NONE;
+    try {
+      Object result = joinPoint.proceed();
+      long rows = rows(method, result);
+      if (rows >= 0) {
+        DistributionSummary.builder(REPOSITORY_ROWS)
+          .description("Rows returned or affected by repository calls")
+          .tag("repository", repositoryMethod.repository())
+          .tag("method", repositoryMethod.method())
+          .register(this.meterRegistry)
+          .record(rows);
+      }
+      return result;
+    } catch (Throwable e) {
+      exception = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      sample.stop(
+        Timer.builder(REPOSITORY_TIMER)
+          .description("Time of repository calls")
+          .tag("repository", repositoryMethod.repository())
+          .tag("method", repositoryMethod.method())
+          .tag("exception", exception)
+          .register(this.meterRegistry)
+      );
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Gets the name of the repository interface implemented by the specified repository proxy.
+   * 
+   * @param proxy The specified repository proxy
+   * @return The name of the repository interface
+   */
+  private String repositoryName(Object proxy) {
+    return this.repositoryNames.computeIfAbsent(proxy.getClass(), proxyClass -> {
+      for (Class<?> userInterface : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+        if (Repository.class.isAssignableFrom(userInterface)) {
+          return userInterface.getSimpleName();
+        }
+      }
+      return proxyClass.getSimpleName();
+    });
+  }
+
+  /**
+   * Counts the rows returned by a query method or affected by a modifying method. Entities and
+   * projections count as one row each, and an empty result as none.
+   * 
+   * <p>The rows are not known for methods returning nothing, since they may affect any number of
+   * rows, or a single value, such as a count or whether an entity exists. Streams are consumed
+   * after the call returns, so their rows are not counted either.</p>
+   * 
+   * @param method The specified repository method
+   * @param result The specified result of the call
+   * @return The number of rows, or -1 if the rows are not known
+   */
+  private static long rows(Method method, Object result) {
+    long rows;
+    if (method.getReturnType() == void.class) {
+      rows = -1;
+    } else if (method.isAnnotationPresent(Modifying.class)) {
+      rows = result instanceof Number number ? number.longValue() : -1;
+    } else if (result == null) {
+      rows = 0;
+    } else if (result instanceof Optional<?> optional) {
+      rows = optional.isPresent() ? 1 : 0;
+    } else if (result instanceof Collection<?> collection) {
+      rows = collection.size();
+    } else if (result instanceof Slice<?> slice) {
+      rows = slice.getNumberOfElements();
+    } else if (result instanceof Iterable<?> || result instanceof BaseStream<?, ?>) {
+      rows = -1;
+    } else {
+      rows = isSingleValue(result) ? -1 : 1;
+    }
+    return rows;
+  }
+
+  /**
+   * Checks if the specified result is a single value rather than an entity or projection.
+   * 
+   * @param result The specified result
+   * @return True if the specified result is a single value or false otherwise
+   */
+  private static boolean isSingleValue(Object result) {
+    return result instanceof Number
+      || result instanceof Boolean
+      || result instanceof CharSequence
+      || result instanceof Character
+      || result instanceof Enum<?>
+      || result instanceof Temporal;
+  }
+
+  /**
+   * The RepositoryMethod record represents a repository method, used to tag metrics.
+   * 
+   * @param repository The name of the repository interface
+   * @param method The name of the method
+   */
+  record RepositoryMethod(String repository, String method) {}
+}
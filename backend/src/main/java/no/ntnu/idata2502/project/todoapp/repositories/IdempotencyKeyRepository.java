@@ -0,0 +1,32 @@
+package no.ntnu.idata2502.project.todoapp.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import no.ntnu.idata2502.project.todoapp.entites.IdempotencyKeyEntity;
+
+/**
+ * The IdempotencyKeyRepository interface represents the repository for
+ * {@link IdempotencyKeyEntity idempotency keys}.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+  /**
+   * Deletes all keys created before the specified time in one statement.
+   * 
+   * @param createdAt The specified time, in milliseconds since the epoch
+   * @return The number of deleted keys
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.createdAt < :createdAt")
+  int removeByCreatedAtBefore(@Param("createdAt") long createdAt);
+}
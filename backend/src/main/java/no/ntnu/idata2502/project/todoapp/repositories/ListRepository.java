@@ -1,16 +1,102 @@
 package no.ntnu.idata2502.project.todoapp.repositories;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import no.ntnu.idata2502.project.todoapp.dtos.ListExportRowDto;
+import no.ntnu.idata2502.project.todoapp.dtos.ListSummaryDto;
 import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
 
 /**
  * The ListRepository interface represents the repository for {@link ListEntity lists}.
  * 
  * @author Candidate 10006
- * @version v1.1.0 (2025.04.27)
+ * @version v1.5.0 (2026.10.18)
  */
 @Repository
-public interface ListRepository extends CrudRepository<ListEntity, Long> {
+public interface ListRepository
+  extends CrudRepository<ListEntity, Long>, PagingAndSortingRepository<ListEntity, Long> {
+
+  /**
+   * Finds all lists. The todos of the lists are fetched in the same query, so serializing the
+   * lists does not cause one extra query per list.
+   * 
+   * @return All lists
+   */
+  @Override
+  @EntityGraph(attributePaths = "todos")
+  Iterable<ListEntity> findAll();
+
+  /**
+   * Finds lists with an ID greater than the specified ID ordered by ID. This is a keyset (seek)
+   * query, meaning that it reads the primary key index from the specified ID instead of skipping
+   * rows like an offset query does.
+   * 
+   * <p>The todos of the lists are not fetched with a join, as that would make the limit apply to
+   * the joined rows. They are instead batch fetched, see {@link ListEntity}.</p>
+   * 
+   * @param id The specified ID
+   * @param limit The specified maximum number of lists
+   * @return The lists
+   */
+  List<ListEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+  /**
+   * Finds summaries of all lists ordered by ID. The todos are counted in one aggregate query, so
+   * no list or todo is loaded.
+   * 
+   * @return Summaries of all lists
+   */
+  @Query(
+    "SELECT l.id AS id, l.title AS title, COUNT(t.id) AS total, "
+      + "COALESCE(SUM(CASE WHEN t.complete = true THEN 1 ELSE 0 END), 0) AS completed "
+      + "FROM ListEntity l LEFT JOIN l.todos t "
+      + "GROUP BY l.id, l.title "
+      + "ORDER BY l.id"
+  )
+  List<ListSummaryDto> findAllSummaries();
+
+  /**
+   * Streams all lists joined with their todos as export rows, ordered by list ID and todo ID. The
+   * rows are projections, so no list or todo is loaded into the persistence context.
+   * 
+   * <p>The fetch size of {@link Integer#MIN_VALUE} makes the MySQL driver stream the rows one by
+   * one instead of reading the whole result into memory. The stream must be consumed within a
+   * transaction and closed afterwards.</p>
+   * 
+   * @return The export rows
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+  @Query(
+    "SELECT new no.ntnu.idata2502.project.todoapp.dtos.ListExportRowDto("
+      + "l.id, l.title, t.id, t.description, t.complete) "
+      + "FROM ListEntity l LEFT JOIN l.todos t "
+      + "ORDER BY l.id, t.id"
+  )
+  Stream<ListExportRowDto> streamExportRows();
+
+  /**
+   * Deletes the list with the specified ID in one statement, without loading the list. The todos
+   * in the list are not cascaded and must be deleted first.
+   * 
+   * @param id The specified ID
+   * @return The number of deleted lists, which is 0 if the list does not exist
+   */
+  @Modifying
+  @Query("DELETE FROM ListEntity l WHERE l.id = :id")
+  int removeById(@Param("id") Long id);
 }
@@ -0,0 +1,42 @@
+package no.ntnu.idata2502.project.todoapp.repositories;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import no.ntnu.idata2502.project.todoapp.entites.RevisionEntity;
+
+/**
+ * The RevisionRepository interface represents the repository for the
+ * {@link RevisionEntity global revision}.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+@Repository
+public interface RevisionRepository extends CrudRepository<RevisionEntity, Integer> {
+
+  /**
+   * Finds the value of the revision with the specified ID, without loading the revision into the
+   * persistence context.
+   * 
+   * @param id The specified ID
+   * @return The value of the revision, or empty if the revision does not exist
+   */
+  @Query("SELECT r.revision FROM RevisionEntity r WHERE r.id = :id")
+  Optional<Long> findRevisionById(@Param("id") Integer id);
+
+  /**
+   * Increments the revision with the specified ID in one statement.
+   * 
+   * @param id The specified ID
+   * @return The number of incremented revisions
+   */
+  @Modifying
+  @Query("UPDATE RevisionEntity r SET r.revision = r.revision + 1 WHERE r.id = :id")
+  int incrementById(@Param("id") Integer id);
+}
@@ -1,16 +1,206 @@
 package no.ntnu.idata2502.project.todoapp.repositories;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import no.ntnu.idata2502.project.todoapp.dtos.TodoListIdDto;
 import no.ntnu.idata2502.project.todoapp.entites.TodoEntity;
 
 /**
  * The TodoRepository interface represents the repository for {@link TodoEntity todos}.
  * 
+ * <p>All bulk statements changing todos increment their versions, as Hibernate only does so for
+ * changes to loaded todos.</p>
+ * 
  * @author Candidate 10006
- * @version v1.3.0 (2025.04.30)
+ * @version v1.11.0 (2026.10.18)
  */
 @Repository
 public interface TodoRepository extends CrudRepository<TodoEntity, Long> {
+
+  /**
+   * Finds todos in the list with the specified list ID with an ID greater than the specified ID
+   * ordered by ID. This is a keyset (seek) query served by the index on list ID, which InnoDB
+   * orders by list ID and then todo ID. The index on list ID and completion status cannot serve
+   * it without sorting, since it orders the todos of a list by completion status before ID.
+   * 
+   * @param listId The specified list ID
+   * @param id The specified ID
+   * @param limit The specified maximum number of todos
+   * @return The todos
+   */
+  List<TodoEntity> findByListIdAndIdGreaterThanOrderByIdAsc(Long listId, Long id, Limit limit);
+
+  /**
+   * Finds todos in the list with the specified list ID with the specified completion status and
+   * an ID greater than the specified ID ordered by ID. This is a keyset (seek) query served by the
+   * index on list ID and completion status, which InnoDB orders by list ID, completion status and
+   * then todo ID.
+   * 
+   * @param listId The specified list ID
+   * @param complete The specified completion status
+   * @param id The specified ID
+   * @param limit The specified maximum number of todos
+   * @return The todos
+   */
+  List<TodoEntity> findByListIdAndCompleteAndIdGreaterThanOrderByIdAsc(
+    Long listId,
+    boolean complete,
+    Long id,
+    Limit limit
+  );
+
+  /**
+   * Finds the IDs of the todos with the specified IDs together with the IDs of the lists
+   * containing them, without loading the todos. IDs of todos that do not exist are ignored.
+   * 
+   * @param ids The specified IDs
+   * @return The todo IDs and list IDs
+   */
+  @Query("SELECT t.id AS id, t.list.id AS listId FROM TodoEntity t WHERE t.id IN :ids")
+  List<TodoListIdDto> findListIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Updates the completion status of the todo with the specified ID in one statement, without
+   * loading the todo.
+   * 
+   * <p>The MySQL driver reports matched rows rather than changed rows by default, so a todo that
+   * already has the specified completion status still counts as updated.</p>
+   * 
+   * @param id The specified ID
+   * @param complete The specified completion status
+   * @return The number of updated todos, which is 0 if the todo does not exist
+   */
+  @Modifying
+  @Query(
+    "UPDATE TodoEntity t SET t.complete = :complete, t.version = t.version + 1 WHERE t.id = :id"
+  )
+  int updateComplete(@Param("id") Long id, @Param("complete") boolean complete);
+
+  /**
+   * Updates the completion status of the todo with the specified ID in one statement, only if the
+   * todo has the specified version.
+   * 
+   * @param id The specified ID
+   * @param version The specified version
+   * @param complete The specified completion status
+   * @return The number of updated todos, which is 0 if the todo does not exist or has another
+   *         version
+   */
+  @Modifying
+  @Query(
+    "UPDATE TodoEntity t SET t.complete = :complete, t.version = t.version + 1 "
+      + "WHERE t.id = :id AND t.version = :version"
+  )
+  int updateCompleteByIdAndVersion(
+    @Param("id") Long id,
+    @Param("version") long version,
+    @Param("complete") boolean complete
+  );
+
+  /**
+   * Updates the completion status of the todo with the specified ID in the list with the
+   * specified list ID in one statement, without loading the todo.
+   * 
+   * @param id The specified ID
+   * @param listId The specified list ID
+   * @param complete The specified completion status
+   * @return The number of updated todos, which is 0 if the todo does not exist in the list
+   */
+  @Modifying
+  @Query(
+    "UPDATE TodoEntity t SET t.complete = :complete, t.version = t.version + 1 "
+      + "WHERE t.id = :id AND t.list.id = :listId"
+  )
+  int updateCompleteByIdAndListId(
+    @Param("id") Long id,
+    @Param("listId") Long listId,
+    @Param("complete") boolean complete
+  );
+
+  /**
+   * Updates the completion status of all todos in the list with the specified ID in one
+   * statement. Todos that already have the specified completion status are left untouched.
+   * 
+   * @param listId The specified list ID
+   * @param complete The specified completion status
+   * @return The number of changed todos
+   */
+  @Modifying
+  @Query(
+    "UPDATE TodoEntity t SET t.complete = :complete, t.version = t.version + 1 "
+      + "WHERE t.list.id = :listId AND t.complete <> :complete"
+  )
+  int updateCompleteByListId(@Param("listId") Long listId, @Param("complete") boolean complete);
+
+  /**
+   * Updates the completion status of the todos with the specified IDs in one statement. Todos that
+   * already have the specified completion status are left untouched.
+   * 
+   * @param ids The specified IDs
+   * @param complete The specified completion status
+   * @return The number of changed todos
+   */
+  @Modifying
+  @Query(
+    "UPDATE TodoEntity t SET t.complete = :complete, t.version = t.version + 1 "
+      + "WHERE t.id IN :ids AND t.complete <> :complete"
+  )
+  int updateCompleteByIdIn(
+    @Param("ids") Collection<Long> ids,
+    @Param("complete") boolean complete
+  );
+
+  /**
+   * Deletes the todo with the specified ID in one statement, without loading the todo.
+   * 
+   * @param id The specified ID
+   * @return The number of deleted todos, which is 0 if the todo does not exist
+   */
+  @Modifying
+  @Query("DELETE FROM TodoEntity t WHERE t.id = :id")
+  int removeById(@Param("id") Long id);
+
+  /**
+   * Deletes the todo with the specified ID in one statement, only if the todo has the specified
+   * version.
+   * 
+   * @param id The specified ID
+   * @param version The specified version
+   * @return The number of deleted todos, which is 0 if the todo does not exist or has another
+   *         version
+   */
+  @Modifying
+  @Query("DELETE FROM TodoEntity t WHERE t.id = :id AND t.version = :version")
+  int removeByIdAndVersion(@Param("id") Long id, @Param("version") long version);
+
+  /**
+   * Deletes the todo with the specified ID in the list with the specified list ID in one
+   * statement, without loading the todo.
+   * 
+   * @param id The specified ID
+   * @param listId The specified list ID
+   * @return The number of deleted todos, which is 0 if the todo does not exist in the list
+   */
+  @Modifying
+  @Query("DELETE FROM TodoEntity t WHERE t.id = :id AND t.list.id = :listId")
+  int removeByIdAndListId(@Param("id") Long id, @Param("listId") Long listId);
+
+  /**
+   * Deletes all todos in the list with the specified ID in one statement, without loading the
+   * todos.
+   * 
+   * @param listId The specified list ID
+   * @return The number of deleted todos
+   */
+  @Modifying
+  @Query("DELETE FROM TodoEntity t WHERE t.list.id = :listId")
+  int removeByListId(@Param("listId") Long listId);
 }
@@ -0,0 +1,49 @@
+package no.ntnu.idata2502.project.todoapp.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The CursorCodec class represents the codec for opaque keyset pagination cursors. A cursor holds
+ * the ID of the last item of a page, and the next page starts right after that ID.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ */
+public final class CursorCodec {
+
+  /**
+   * Private constructor preventing instantiation.
+   */
+  private CursorCodec() {
+    // Intentionally left blank
+  }
+
+  /**
+   * Encodes the specified ID as an opaque cursor.
+   * 
+   * @param id The specified ID
+   * @return The cursor
+   */
+  public static String encode(Long id) {
+    return Base64.getUrlEncoder().withoutPadding()
+      .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes the specified cursor to the ID it holds.
+   * 
+   * @param cursor The specified cursor
+   * @return The ID
+   * @throws IllegalArgumentException If the specified cursor is invalid
+   */
+  public static long decode(String cursor) {
+    try {
+      byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+      return Long.parseLong(new String(bytes, StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      // NumberFormatException is a subclass of IllegalArgumentException
+      throw new IllegalArgumentException("The specified cursor is invalid");
+    }
+  }
+}
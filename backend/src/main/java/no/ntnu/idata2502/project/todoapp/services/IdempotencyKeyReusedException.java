@@ -0,0 +1,19 @@
+package no.ntnu.idata2502.project.todoapp.services;
+
+/**
+ * The IdempotencyKeyReusedException class represents the exception thrown when an idempotency key
+ * is used for another request than the one it was first used for.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ * @see IdempotencyService
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+  /**
+   * Constructor for the IdempotencyKeyReusedException class.
+   */
+  public IdempotencyKeyReusedException() {
+    super("The specified idempotency key has been used for another request");
+  }
+}
@@ -0,0 +1,269 @@
+package no.ntnu.idata2502.project.todoapp.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import no.ntnu.idata2502.project.todoapp.entites.IdempotencyKeyEntity;
+import no.ntnu.idata2502.project.todoapp.repositories.IdempotencyKeyRepository;
+
+/**
+ * The IdempotencyService class represents the service for {@link IdempotencyKeyEntity idempotency
+ * keys} of requests creating resources.
+ * 
+ * <p>A request with a new key creates its resource, and the ID of the resource is stored under the
+ * key. A retry of the request with the same key gets the stored ID back without creating the
+ * resource again, and a different request with the same key is rejected. Keys expire after the
+ * TTL.</p>
+ * 
+ * <p>The keys are stored in a bounded in-process cache by default. With the database store, they
+ * are stored in the same transaction as the created resource, so they are shared between instances
+ * of the application, and a key used by two concurrent requests only creates one resource.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.2.0 (2026.10.18)
+ */
+@Service
+public class IdempotencyService {
+
+  /**
+   * The name of the header containing the idempotency key.
+   */
+  public static final String HEADER = "Idempotency-Key";
+
+  /**
+   * The maximum length of an idempotency key.
+   */
+  public static final int MAX_KEY_LENGTH = 255;
+
+  /**
+   * The name of the store keeping the keys in the database.
+   */
+  public static final String DATABASE_STORE = "database";
+
+  @Value("${todoapp.idempotency.store:memory}")
+  private String store;
+
+  @Value("${todoapp.idempotency.ttl:24h}")
+  private Duration ttl;
+
+  @Value("${todoapp.idempotency.maximum-size:100000}")
+  private long maximumSize;
+
+  @Autowired
+  private IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private Cache<String, CompletableFuture<IdempotencyKeyEntity>> keys;
+
+  private Counter replays;
+
+  private final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+  /**
+   * Creates the in-process store and registers the metrics of the service.
+   */
+  @PostConstruct
+  public void init() {
+    this.keys = Caffeine.newBuilder()
+      .maximumSize(this.maximumSize)
+      .expireAfterWrite(this.ttl)
+      .build();
+    this.replays = Counter.builder("todoapp.idempotency.replays")
+      .description("Requests answered with the resource created by an earlier request")
+      .register(this.meterRegistry);
+  }
+
+  /**
+   * Creates a resource with the specified action, unless a resource has already been created for
+   * the specified key. The action is run directly if no key is specified.
+   * 
+   * @param key The specified idempotency key, or <code>null</code>
+   * @param request The specified description of the request, such as its method, path and body
+   * @param action The specified action creating the resource and returning its ID
+   * @return The ID of the created resource, or of the resource created for the key before
+   * @throws IllegalArgumentException If the specified key is invalid, or thrown by the action
+   * @throws IdempotencyKeyReusedException If the specified key has been used for another request
+   */
+  public Long execute(String key, String request, Supplier<Long> action) {
+    Long id;
+    if (key == null) {
+      id = action.get();
+    } else {
+      if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+        throw new IllegalArgumentException("The specified idempotency key is invalid");
+      }
+      String fingerprint = fingerprint(request);
+      id = DATABASE_STORE.equals(this.store)
+        ? this.executeInDatabase(key, fingerprint, action)
+        : this.executeInMemory(key, fingerprint, action);
+    }
+    return id;
+  }
+
+  /**
+   * Deletes the expired keys in the database store.
+   */
+  @Scheduled(fixedRateString = "${todoapp.idempotency.purge-interval:1h}")
+  public void purge() {
+    if (DATABASE_STORE.equals(this.store)) {
+      int purged = this.idempotencyKeyRepository.removeByCreatedAtBefore(this.expiredBefore());
+      this.logger.debug("Purged " + purged + " expired idempotency keys");
+    }
+  }
+
+  /**
+   * Creates a resource for the specified key in the in-process store. The first request with the
+   * key stores a pending result under it, and runs the action outside the store, so the store is
+   * never locked while a resource is created. Concurrent requests with the same key wait for the
+   * pending result. If the action fails, the pending result is removed, so the key may be retried,
+   * and the requests waiting for it fail with the same exception.
+   * 
+   * @param key The specified key
+   * @param fingerprint The specified fingerprint of the request
+   * @param action The specified action
+   * @return The ID of the resource
+   */
+  private Long executeInMemory(String key, String fingerprint, Supplier<Long> action) {
+    CompletableFuture<IdempotencyKeyEntity> pending = new CompletableFuture<>();
+    CompletableFuture<IdempotencyKeyEntity> existing = this.keys.asMap().putIfAbsent(key, pending);
+    Long id;
+    if (existing == null) {
+      try {
+        pending.complete(
+          new IdempotencyKeyEntity(key, fingerprint, action.get(), System.currentTimeMillis())
+        );
+      } catch (RuntimeException e) {
+        this.keys.asMap().remove(key, pending);
+        pending.completeExceptionally(e);
+        throw e;
+      }
+      id = this.resourceId(pending.join(), fingerprint, false);
+    } else {
+      IdempotencyKeyEntity entity;
+      try {
+        entity = existing.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+      id = this.resourceId(entity, fingerprint, true);
+    }
+    return id;
+  }
+
+  /**
+   * Creates a resource for the specified key in the database store. The key is inserted and
+   * flushed before the action, so a concurrent request with the same key waits on the key until
+   * this transaction ends, and then fails to insert it if it was committed. The key committed by
+   * the concurrent request is then read in a read-write transaction, so it is read from the
+   * primary database rather than from a read replica that may not have it yet.
+   * 
+   * @param key The specified key
+   * @param fingerprint The specified fingerprint of the request
+   * @param action The specified action
+   * @return The ID of the resource
+   */
+  private Long executeInDatabase(String key, String fingerprint, Supplier<Long> action) {
+    Long id;
+    try {
+      id = this.transactionTemplate.execute(status -> {
+        Optional<IdempotencyKeyEntity> existing = this.idempotencyKeyRepository.findById(key);
+        Long result;
+        if (existing.isPresent() && existing.get().getCreatedAt() >= this.expiredBefore()) {
+          result = this.resourceId(existing.get(), fingerprint, true);
+        } else {
+          if (existing.isPresent()) {
+            this.idempotencyKeyRepository.delete(existing.get());
+            this.idempotencyKeyRepository.flush();
+          }
+          IdempotencyKeyEntity entity = this.idempotencyKeyRepository.saveAndFlush(
+            new IdempotencyKeyEntity(key, fingerprint, null, System.currentTimeMillis())
+          );
+          result = action.get();
+          entity.setResourceId(result);
+          // Merged, since the action may have detached the key
+          this.idempotencyKeyRepository.save(entity);
+        }
+        return result;
+      });
+    } catch (DataIntegrityViolationException e) {
+      // A concurrent request with the same key committed first
+      IdempotencyKeyEntity entity = this.transactionTemplate.execute(
+        status -> this.idempotencyKeyRepository.findById(key).orElseThrow(() -> e)
+      );
+      id = this.resourceId(entity, fingerprint, true);
+    }
+    return id;
+  }
+
+  /**
+   * Gets the ID of the resource created for the specified key, after checking that the key was
+   * used for the same request.
+   * 
+   * @param entity The specified key
+   * @param fingerprint The specified fingerprint of the request
+   * @param replay True if the resource was created by an earlier request or false otherwise
+   * @return The ID of the resource
+   * @throws IdempotencyKeyReusedException If the key has been used for another request
+   */
+  private Long resourceId(IdempotencyKeyEntity entity, String fingerprint, boolean replay) {
+    if (!entity.getFingerprint().equals(fingerprint)) {
+      throw new IdempotencyKeyReusedException();
+    }
+    if (replay) {
+      this.replays.increment();
+    }
+    return entity.getResourceId();
+  }
+
+  /**
+   * Gets the time before which keys are expired.
+   * 
+   * @return The time, in milliseconds since the epoch
+   */
+  private long expiredBefore() {
+    return System.currentTimeMillis() - this.ttl.toMillis();
+  }
+
+  /**
+   * Gets the fingerprint of the specified request, which is its SHA-256 hash in hex.
+   * 
+   * @param request The specified request
+   * @return The fingerprint
+   */
+  private static String fingerprint(String request) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+    return HexFormat.of().formatHex(digest.digest(request.getBytes(StandardCharsets.UTF_8)));
+  }
+}
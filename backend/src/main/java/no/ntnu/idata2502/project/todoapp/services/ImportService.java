@@ -0,0 +1,197 @@
+package no.ntnu.idata2502.project.todoapp.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.PersistenceException;
+import no.ntnu.idata2502.project.todoapp.config.MetricsConfig;
+import no.ntnu.idata2502.project.todoapp.dtos.ImportErrorDto;
+import no.ntnu.idata2502.project.todoapp.dtos.ImportResultDto;
+import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
+import no.ntnu.idata2502.project.todoapp.entites.TodoEntity;
+
+/**
+ * The ImportService class represents the service for importing {@link ListEntity lists} with
+ * their {@link TodoEntity todos}.
+ * 
+ * <p>An import is either a JSON array of lists or newline-delimited JSON (NDJSON) with one list
+ * per line, where each list is an object with a title and an optional array of todos with a
+ * description and an optional completion status. The import is parsed one list at a time, and
+ * valid lists are added in chunks, each in its own transaction. The memory used therefore depends
+ * on the chunk size and not on the size of the import.</p>
+ * 
+ * <p>All operations are timed, see {@link MetricsConfig}.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.2.0 (2026.10.18)
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ImportService {
+
+  /**
+   * The number of lists and todos added per transaction.
+   */
+  public static final int CHUNK_SIZE = 1000;
+
+  /**
+   * The maximum number of errors reported in the result of an import.
+   */
+  public static final int MAX_REPORTED_ERRORS = 100;
+
+  @Autowired
+  private ListService listService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  /**
+   * Imports the lists read from the specified input stream. Invalid lists are skipped and
+   * reported in the result. If the input is malformed, the import stops at the malformed list,
+   * and the lists before it are kept.
+   * 
+   * @param in The specified input stream
+   * @return The result of the import
+   * @throws IOException If the input stream cannot be read
+   */
+  public ImportResultDto importLists(InputStream in) throws IOException {
+    Import result = new Import();
+    try (JsonParser parser = this.objectMapper.getFactory().createParser(in)) {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.START_ARRAY) {
+        token = parser.nextToken();
+      }
+      while (token != null && token != JsonToken.END_ARRAY) {
+        JsonNode node = this.objectMapper.readTree(parser);
+        try {
+          result.add(this.toList(node));
+        } catch (IllegalArgumentException e) {
+          result.fail(e.getMessage());
+        }
+        token = parser.nextToken();
+      }
+    } catch (JsonProcessingException e) {
+      result.fail("The record is malformed: " + e.getOriginalMessage());
+    }
+    result.flush();
+    return new ImportResultDto(result.imported, result.failed, result.errors);
+  }
+
+  /**
+   * Converts the specified JSON node to a list with todos.
+   * 
+   * @param node The specified JSON node
+   * @return The list
+   * @throws IllegalArgumentException If the list or any of its todos is invalid
+   */
+  private ListEntity toList(JsonNode node) {
+    if (!node.isObject()) {
+      throw new IllegalArgumentException("The record is not a JSON object");
+    }
+    ListEntity list = new ListEntity(node.path("title").textValue());
+    if (!list.isValid()) {
+      throw new IllegalArgumentException("The specified list is invalid");
+    }
+    JsonNode todos = node.path("todos");
+    if (!todos.isMissingNode() && !todos.isArray()) {
+      throw new IllegalArgumentException("The specified todos are invalid");
+    }
+    for (int i = 0; i < todos.size(); i++) {
+      JsonNode todoNode = todos.get(i);
+      TodoEntity todo = new TodoEntity(todoNode.path("description").textValue());
+      todo.setComplete(todoNode.path("complete").asBoolean(false));
+      if (!todo.isValid()) {
+        throw new IllegalArgumentException("The specified todo at index " + i + " is invalid");
+      }
+      list.addTodo(todo);
+    }
+    return list;
+  }
+
+  /**
+   * The Import class represents the state of an ongoing import, that is the chunk of lists not
+   * yet added and the counts and errors so far.
+   */
+  private class Import {
+    private final List<ListEntity> chunk = new ArrayList<>();
+    private final List<Long> chunkRecords = new ArrayList<>();
+    private final List<ImportErrorDto> errors = new ArrayList<>();
+    private int chunkEntities;
+    private long record;
+    private long imported;
+    private long failed;
+
+    /**
+     * Adds the specified list of the current record to the chunk. The chunk is added when it
+     * reaches the chunk size.
+     * 
+     * @param list The specified list
+     */
+    private void add(ListEntity list) {
+      this.chunk.add(list);
+      this.chunkRecords.add(this.record++);
+      this.chunkEntities += 1 + (list.getTodos() == null ? 0 : list.getTodos().size());
+      if (this.chunkEntities >= CHUNK_SIZE) {
+        this.flush();
+      }
+    }
+
+    /**
+     * Reports the current record as failed with the specified message.
+     * 
+     * @param message The specified message
+     */
+    private void fail(String message) {
+      this.error(this.record++, message);
+    }
+
+    /**
+     * Adds the lists in the chunk in one transaction. If the transaction fails, all records in
+     * the chunk are reported as failed. Failures are reported whether they are translated by
+     * Spring or thrown by the persistence provider directly, such as when the chunk is flushed
+     * through the entity manager.
+     */
+    private void flush() {
+      if (!this.chunk.isEmpty()) {
+        try {
+          listService.addAll(this.chunk);
+          this.imported += this.chunk.size();
+        } catch (DataAccessException | PersistenceException e) {
+          for (Long chunkRecord : this.chunkRecords) {
+            this.error(chunkRecord, "The record could not be stored");
+          }
+        }
+        this.chunk.clear();
+        this.chunkRecords.clear();
+        this.chunkEntities = 0;
+      }
+    }
+
+    /**
+     * Reports the specified record as failed with the specified message. Only the first errors
+     * are kept.
+     * 
+     * @param record The specified record number
+     * @param message The specified message
+     */
+    private void error(long record, String message) {
+      this.failed++;
+      if (this.errors.size() < MAX_REPORTED_ERRORS) {
+        this.errors.add(new ImportErrorDto(record, message));
+      }
+    }
+  }
+}
@@ -1,40 +1,173 @@
 package no.ntnu.idata2502.project.todoapp.services;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import no.ntnu.idata2502.project.todoapp.config.CacheConfig;
+import no.ntnu.idata2502.project.todoapp.config.MetricsConfig;
+import no.ntnu.idata2502.project.todoapp.datasource.ReplicaRoutingDataSource;
+import no.ntnu.idata2502.project.todoapp.dtos.ListExportRowDto;
+import no.ntnu.idata2502.project.todoapp.dtos.ListSummaryDto;
+import no.ntnu.idata2502.project.todoapp.dtos.PageDto;
 import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
+import no.ntnu.idata2502.project.todoapp.entites.TodoEntity;
+import no.ntnu.idata2502.project.todoapp.events.ChangeEvent;
 import no.ntnu.idata2502.project.todoapp.repositories.ListRepository;
+import no.ntnu.idata2502.project.todoapp.repositories.TodoRepository;
 
 /**
  * The ListService class represents the service for {@link ListEntity lists}.
  * 
+ * <p>Lists by ID and all lists are cached in the caches named in {@link CacheConfig}. The caches
+ * are evicted when lists are added or deleted, and the cache of all lists is also evicted by
+ * {@link TodoService} when todos change.</p>
+ * 
+ * <p>All methods changing lists increment the {@link RevisionService global revision} once their
+ * transaction commits, and all lists are cached by revision. They also publish a
+ * {@link ChangeEvent change event} for every changed list, which is broadcast after commit.</p>
+ * 
+ * <p>Reads of many lists are read-only transactions, which are routed to the read replica when
+ * one is configured, see {@link ReplicaRoutingDataSource}. Their todos are loaded within the
+ * transaction, so lists and todos are read from the same database. Getting a list by ID is a
+ * read-write transaction, and is always routed to the primary, since it checks that a list exists
+ * before changing it, and must see lists that were just added.</p>
+ * 
+ * <p>All operations are timed, see {@link MetricsConfig}.</p>
+ * 
  * @author Candidate 10006
- * @version v1.2.0 (2025.04.29)
+ * @version v1.16.0 (2026.10.18)
  */
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class ListService {
 
+  /**
+   * The default number of lists in a page.
+   */
+  public static final int DEFAULT_PAGE_LIMIT = 20;
+
+  /**
+   * The maximum number of lists in a page.
+   */
+  public static final int MAX_PAGE_LIMIT = ListEntity.TODOS_BATCH_SIZE;
+
   @Autowired
   private ListRepository listRepository;
 
+  @Autowired
+  private TodoRepository todoRepository;
+
+  @Autowired
+  private RevisionService revisionService;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
   /**
-   * Gets all lists.
+   * Gets all lists. The lists are cached by the specified revision, which must be read before the
+   * lists in the same transaction, until a list or todo changes. A read racing with a change may
+   * then cache newer lists under an older revision, but never older lists under a newer revision.
    * 
+   * @param revision The specified current revision, see {@link RevisionService#read}
    * @return All lists
    */
-  public Iterable<ListEntity> getAll() {
-    return this.listRepository.findAll();
+  @Transactional(readOnly = true)
+  @Cacheable(cacheNames = CacheConfig.ALL_LISTS, key = "#revision")
+  public Iterable<ListEntity> getAll(long revision) {
+    Iterable<ListEntity> lists = this.listRepository.findAll();
+    lists.forEach(list -> Hibernate.initialize(list.getTodos()));
+    return lists;
   }
 
   /**
-   * Gets the list with the specified ID.
+   * Gets a page of lists ordered by ID. The page starts right after the list the specified cursor
+   * points to, or at the first list if the specified cursor is <code>null</code>.
+   * 
+   * <p>The page is read with a keyset query, so the cost of reading a page does not grow with the
+   * number of lists before it. One extra list is read to know if there is a next page.</p>
+   * 
+   * @param cursor The specified cursor
+   * @param limit The specified maximum number of lists in the page
+   * @return The page of lists
+   * @throws IllegalArgumentException If the specified cursor or limit is invalid
+   */
+  @Transactional(readOnly = true)
+  public PageDto<ListEntity> getPage(String cursor, int limit) {
+    if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+      throw new IllegalArgumentException("The specified limit is invalid");
+    }
+    // IDs are positive, so the first page starts after 0
+    long after = cursor == null ? 0L : CursorCodec.decode(cursor);
+    List<ListEntity> lists = this.listRepository.findByIdGreaterThanOrderByIdAsc(
+      after,
+      Limit.of(limit + 1)
+    );
+    String nextCursor = null;
+    if (lists.size() > limit) {
+      lists = lists.subList(0, limit);
+      nextCursor = CursorCodec.encode(lists.get(limit - 1).getId());
+    }
+    lists.forEach(list -> Hibernate.initialize(list.getTodos()));
+    return new PageDto<>(lists, nextCursor);
+  }
+
+  /**
+   * Gets summaries of all lists. A summary contains the ID and title of a list and counts of its
+   * todos. The summaries are read in one statement, so no database transaction is started.
+   * 
+   * @return Summaries of all lists
+   */
+  @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+  public List<ListSummaryDto> getSummaries() {
+    return this.listRepository.findAllSummaries();
+  }
+
+  /**
+   * Exports all lists and their todos by passing export rows, ordered by list ID and todo ID, to
+   * the specified consumer. The rows are streamed from the database within a read-only
+   * transaction, so they are never all held in memory.
+   * 
+   * @param consumer The specified consumer
+   */
+  @Transactional(readOnly = true)
+  public void exportAll(Consumer<ListExportRowDto> consumer) {
+    try (Stream<ListExportRowDto> rows = this.listRepository.streamExportRows()) {
+      rows.forEach(consumer);
+    }
+  }
+
+  /**
+   * Gets the list with the specified ID. Existing lists are cached until deleted, so the list
+   * returned may be detached and its todos may not be loaded. It is meant for checking that a
+   * list exists and for referencing it, not for reading its todos.
+   * 
+   * <p>The list is read in a read-write transaction, so it is read from the primary rather than
+   * from a read replica that may not have it yet.</p>
    * 
    * @param id The specified ID
    * @return The list
    */
+  @Transactional
+  @Cacheable(cacheNames = CacheConfig.LISTS, unless = "#result == null")
   public Optional<ListEntity> get(Long id) {
     return this.listRepository.findById(id);
   }
@@ -46,27 +179,84 @@ public class ListService {
    * @return The generated ID if the specified list is valid
    * @throws IllegalArgumentException If the specified list is invalid
    */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
   public Long add(ListEntity list) {
     if (!list.isValid()) {
       throw new IllegalArgumentException("The specified list is invalid");
     }
     this.listRepository.save(list);
+    this.revisionService.increment();
+    this.eventPublisher.publishEvent(
+      new ChangeEvent(ChangeEvent.Type.LIST_CREATED, list.getId(), list.getId(), null)
+    );
     return list.getId();
   }
 
+  /**
+   * Adds the specified lists with their todos in one transaction. The specified lists are only
+   * added if all of them and their todos are valid.
+   * 
+   * <p>The added lists and todos are flushed and detached once written. The persistence context
+   * can be kept open across several transactions, such as for the whole request, and would
+   * otherwise grow with every call.</p>
+   * 
+   * @param lists The specified lists
+   * @return The number of added lists
+   * @throws IllegalArgumentException If any of the specified lists or their todos is invalid
+   */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  public int addAll(List<ListEntity> lists) {
+    for (int i = 0; i < lists.size(); i++) {
+      ListEntity list = lists.get(i);
+      if (!list.isValid()) {
+        throw new IllegalArgumentException("The specified list at index " + i + " is invalid");
+      }
+      if (list.getTodos() != null) {
+        for (TodoEntity todo : list.getTodos()) {
+          if (!todo.isValid()) {
+            throw new IllegalArgumentException(
+              "The specified list at index " + i + " contains an invalid todo"
+            );
+          }
+        }
+      }
+    }
+    this.listRepository.saveAll(lists);
+    this.revisionService.increment();
+    this.entityManager.flush();
+    this.entityManager.clear();
+    for (ListEntity list : lists) {
+      this.eventPublisher.publishEvent(
+        new ChangeEvent(ChangeEvent.Type.LIST_CREATED, list.getId(), list.getId(), null)
+      );
+    }
+    return lists.size();
+  }
+
   /**
    * Deletes the list with the specified ID. The list is only deleted if a list with the specified
-   * ID exists.
+   * ID exists. The todos in the list are deleted with one set-based statement and the list with
+   * another, instead of loading and deleting each todo through the cascade.
    * 
    * @param id The specified ID
    * @return True if the list exists and is deleted or false otherwise
    */
+  @Transactional
+  @Caching(evict = {
+    @CacheEvict(cacheNames = CacheConfig.LISTS),
+    @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  })
   public boolean delete(Long id) {
-    Optional<ListEntity> list = this.listRepository.findById(id);
-    boolean exist = list.isPresent();
-    if (exist) {
-      this.listRepository.deleteById(id);
+    this.todoRepository.removeByListId(id);
+    boolean deleted = this.listRepository.removeById(id) > 0;
+    if (deleted) {
+      this.revisionService.increment();
+      this.eventPublisher.publishEvent(
+        new ChangeEvent(ChangeEvent.Type.LIST_DELETED, id, id, null)
+      );
     }
-    return exist;
+    return deleted;
   }
 }
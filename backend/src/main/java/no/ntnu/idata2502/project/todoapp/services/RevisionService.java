@@ -0,0 +1,134 @@
+package no.ntnu.idata2502.project.todoapp.services;
+
+import java.util.function.LongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import no.ntnu.idata2502.project.todoapp.entites.RevisionEntity;
+import no.ntnu.idata2502.project.todoapp.repositories.RevisionRepository;
+
+/**
+ * The RevisionService class represents the service for the
+ * {@link RevisionEntity global revision} of lists and todos. The revision changes whenever a list
+ * or todo changes, so it is used as the entity tag of list reads and as the key of the cache of
+ * all lists.
+ * 
+ * <p>The revision is incremented right after the transaction making the change commits, in a
+ * short transaction of its own. Writing transactions therefore never lock the revision row, and
+ * only the single increment statement waits on other increments. Since the change is visible
+ * before the increment, a reader may see the change under the previous revision, but never the
+ * new revision without the change. The increment runs before any other work done after the
+ * commit, such as broadcasting the change, so clients notified of a change read the new
+ * revision.</p>
+ * 
+ * <p>If the increment fails, the change is kept, and the revision is only incremented by the next
+ * change. Conditional reads may be answered with 304 Not Modified for the change until then.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.3.0 (2026.10.18)
+ */
+@Service
+public class RevisionService {
+
+  @Autowired
+  private RevisionRepository revisionRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate incrementTemplate;
+
+  private final Logger logger = LoggerFactory.getLogger(RevisionService.class);
+
+  /**
+   * Creates the template of the transactions incrementing the revision. The transactions are
+   * separate from the transaction making the change, which has committed when they run.
+   */
+  @PostConstruct
+  public void init() {
+    this.incrementTemplate = new TransactionTemplate(this.transactionManager);
+    this.incrementTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Gets the current revision. The revision is read in one statement without loading any list or
+   * todo. No database transaction is started for the single statement. To tag lists with the
+   * revision, read both with {@link #read(LongFunction)} instead.
+   * 
+   * @return The current revision
+   */
+  @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+  public long current() {
+    return this.revisionRepository.findRevisionById(RevisionEntity.GLOBAL_ID).orElse(0L);
+  }
+
+  /**
+   * Reads the current revision and passes it to the specified reader, within one read-only
+   * transaction. Lists read by the reader are therefore read from the same database, over the
+   * same connection, as the revision tagging them, even when a read replica is configured.
+   * 
+   * @param <T> The type of the result of the reader
+   * @param reader The specified reader, taking the current revision
+   * @return The result of the reader
+   */
+  @Transactional(readOnly = true)
+  public <T> T read(LongFunction<T> reader) {
+    return reader.apply(this.current());
+  }
+
+  /**
+   * Increments the revision once the current transaction commits. Must be called within the
+   * transaction making the change. The revision is incremented once per transaction, however many
+   * times this is called, and not at all if the transaction rolls back.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void increment() {
+    if (!TransactionSynchronizationManager.hasResource(this)) {
+      TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+      TransactionSynchronizationManager.registerSynchronization(new IncrementSynchronization());
+    }
+  }
+
+  /**
+   * The IncrementSynchronization class represents the increment of the revision registered with a
+   * transaction making a change. It is ordered before all other synchronizations, such as the
+   * listeners broadcasting changes after commit.
+   */
+  private class IncrementSynchronization implements TransactionSynchronization {
+
+    @Override
+    public int getOrder() {
+      return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void afterCommit() {
+      try {
+        incrementTemplate.executeWithoutResult(
+          status -> revisionRepository.incrementById(RevisionEntity.GLOBAL_ID)
+        );
+      } catch (DataAccessException | TransactionException e) {
+        logger.error("Could not increment the revision: " + e.getMessage());
+      }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(RevisionService.this);
+    }
+  }
+}
@@ -1,25 +1,112 @@
 package no.ntnu.idata2502.project.todoapp.services;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
+import no.ntnu.idata2502.project.todoapp.config.CacheConfig;
+import no.ntnu.idata2502.project.todoapp.config.MetricsConfig;
+import no.ntnu.idata2502.project.todoapp.dtos.PageDto;
+import no.ntnu.idata2502.project.todoapp.dtos.TodoListIdDto;
 import no.ntnu.idata2502.project.todoapp.entites.TodoEntity;
+import no.ntnu.idata2502.project.todoapp.events.ChangeEvent;
 import no.ntnu.idata2502.project.todoapp.repositories.TodoRepository;
 
 /**
  * The TodoService class represents the service for {@link TodoEntity todos}.
  * 
+ * <p>All methods changing todos evict the cache of all lists, as the cached lists contain
+ * todos, and increment the {@link RevisionService global revision} once their transaction
+ * commits. They also publish a {@link ChangeEvent change event} for every change, which is
+ * broadcast after commit.</p>
+ * 
+ * <p>All operations are timed, see {@link MetricsConfig}.</p>
+ * 
  * @author Candidate 10006
- * @version v1.3.0 (2025.04.30)
+ * @version v1.17.0 (2026.10.18)
  */
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class TodoService {
 
+  /**
+   * The maximum number of todos added in one batch.
+   */
+  public static final int MAX_BATCH_SIZE = 10000;
+
+  /**
+   * The default number of todos in a page.
+   */
+  public static final int DEFAULT_PAGE_LIMIT = 50;
+
+  /**
+   * The maximum number of todos in a page.
+   */
+  public static final int MAX_PAGE_LIMIT = 1000;
+
   @Autowired
   private TodoRepository todoRepository;
 
+  @Autowired
+  private RevisionService revisionService;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Gets a page of todos in the list with the specified list ID ordered by ID, optionally only
+   * todos with the specified completion status. The page starts right after the todo the
+   * specified cursor points to, or at the first todo if the specified cursor is
+   * <code>null</code>.
+   * 
+   * <p>The page is read with a keyset query on an index, so the cost of reading a page does not
+   * grow with the number of todos in the list. One extra todo is read to know if there is a next
+   * page.</p>
+   * 
+   * @param listId The specified list ID
+   * @param complete The specified completion status, or <code>null</code> for all todos
+   * @param cursor The specified cursor
+   * @param limit The specified maximum number of todos in the page
+   * @return The page of todos
+   * @throws IllegalArgumentException If the specified cursor or limit is invalid
+   */
+  public PageDto<TodoEntity> getPage(Long listId, Boolean complete, String cursor, int limit) {
+    if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+      throw new IllegalArgumentException("The specified limit is invalid");
+    }
+    // IDs are positive, so the first page starts after 0
+    long after = cursor == null ? 0L : CursorCodec.decode(cursor);
+    List<TodoEntity> todos;
+    if (complete == null) {
+      todos = this.todoRepository.findByListIdAndIdGreaterThanOrderByIdAsc(
+        listId,
+        after,
+        Limit.of(limit + 1)
+      );
+    } else {
+      todos = this.todoRepository.findByListIdAndCompleteAndIdGreaterThanOrderByIdAsc(
+        listId,
+        complete,
+        after,
+        Limit.of(limit + 1)
+      );
+    }
+    String nextCursor = null;
+    if (todos.size() > limit) {
+      todos = todos.subList(0, limit);
+      nextCursor = CursorCodec.encode(todos.get(limit - 1).getId());
+    }
+    return new PageDto<>(todos, nextCursor);
+  }
+
   /**
    * Adds the specified todo. The specified todo is only added if it is valid.
    * 
@@ -27,46 +114,272 @@ public class TodoService {
    * @return The generated ID if the specified todo is valid
    * @throws IllegalArgumentException If the specified todo is invalid
    */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
   public Long add(TodoEntity todo) {
     if (!todo.isValid()) {
       throw new IllegalArgumentException("The specified todo is invalid");
     }
     this.todoRepository.save(todo);
+    this.revisionService.increment();
+    this.publishCreated(todo);
     return todo.getId();
   }
 
+  /**
+   * Adds the specified todos in one transaction. The specified todos are only added if all of them
+   * are valid. The inserts are sent to the database in JDBC batches.
+   * 
+   * @param todos The specified todos
+   * @return The generated IDs in the same order as the specified todos
+   * @throws IllegalArgumentException If there are too many specified todos or any of them is
+   *                                  invalid
+   */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  public List<Long> addAll(List<TodoEntity> todos) {
+    if (todos.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("The specified todos are too many");
+    }
+    for (int i = 0; i < todos.size(); i++) {
+      if (!todos.get(i).isValid()) {
+        throw new IllegalArgumentException("The specified todo at index " + i + " is invalid");
+      }
+    }
+    List<Long> ids = new ArrayList<>(todos.size());
+    for (TodoEntity todo : this.todoRepository.saveAll(todos)) {
+      ids.add(todo.getId());
+      this.publishCreated(todo);
+    }
+    this.revisionService.increment();
+    return ids;
+  }
+
   /**
    * Updates the todo with the specified ID with the specified completion status. The todo is only
-   * updated if a todo with the specified ID exits.
+   * updated if a todo with the specified ID exits. The todo is updated with a single statement, so
+   * it is neither loaded nor overwritten with stale state.
    * 
    * @param id The specified ID
    * @param complete The specified completion status
    * @return True if the todo exists and is updated or false otherwise
    */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
   public boolean update(Long id, boolean complete) {
-    Optional<TodoEntity> todo = this.todoRepository.findById(id);
-    boolean exist = todo.isPresent();
-    if (exist) {
-      TodoEntity existingTodo = todo.get();
-      existingTodo.setComplete(complete);
-      this.todoRepository.save(existingTodo);
+    return this.update(id, null, complete);
+  }
+
+  /**
+   * Updates the todo with the specified ID with the specified completion status, only if the todo
+   * has the specified version. The todo is only updated if a todo with the specified ID exists.
+   * The version is checked and incremented in the same single statement, so no lock is held
+   * between reading and writing the todo. The ID of the list containing the todo is read in the
+   * same transaction once the todo is updated, so the change event reaches the subscribers of the
+   * list.
+   * 
+   * @param id The specified ID
+   * @param version The specified version, or <code>null</code> to update any version
+   * @param complete The specified completion status
+   * @return True if the todo exists and is updated or false otherwise
+   * @throws ObjectOptimisticLockingFailureException If the todo exists with another version
+   */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  public boolean update(Long id, Long version, boolean complete) {
+    int updated = version == null
+      ? this.todoRepository.updateComplete(id, complete)
+      : this.todoRepository.updateCompleteByIdAndVersion(id, version, complete);
+    Long listId = updated > 0 ? this.findListId(id) : null;
+    return this.changed(
+      id,
+      version,
+      updated,
+      new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, id, listId, complete)
+    );
+  }
+
+  /**
+   * Updates the todo with the specified ID in the list with the specified list ID with the
+   * specified completion status. The todo is only updated if it exists in the list. The todo is
+   * updated with a single statement, and the change event has the list ID.
+   * 
+   * @param listId The specified list ID
+   * @param id The specified ID
+   * @param complete The specified completion status
+   * @return True if the todo exists in the list and is updated or false otherwise
+   */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  public boolean updateInList(Long listId, Long id, boolean complete) {
+    int updated = this.todoRepository.updateCompleteByIdAndListId(id, listId, complete);
+    return this.changed(
+      id,
+      null,
+      updated,
+      new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, id, listId, complete)
+    );
+  }
+
+  /**
+   * Updates all todos in the list with the specified ID with the specified completion status. The
+   * todos are updated with a single statement.
+   * 
+   * @param listId The specified list ID
+   * @param complete The specified completion status
+   * @return The number of todos whose completion status changed
+   */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  public int updateAllInList(Long listId, boolean complete) {
+    int updated = this.todoRepository.updateCompleteByListId(listId, complete);
+    if (updated > 0) {
+      this.revisionService.increment();
+      this.eventPublisher.publishEvent(
+        new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, null, listId, complete)
+      );
     }
-    return exist;
+    return updated;
+  }
+
+  /**
+   * Updates the todos with the specified IDs with the specified completion status. The todos are
+   * updated with a single statement, and IDs of todos that do not exist are ignored.
+   * 
+   * @param ids The specified IDs
+   * @param complete The specified completion status
+   * @return The number of todos whose completion status changed
+   * @throws IllegalArgumentException If there are too many specified IDs
+   */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  public int updateAll(List<Long> ids, boolean complete) {
+    if (ids.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("The specified todos are too many");
+    }
+    int updated = 0;
+    if (!ids.isEmpty()) {
+      updated = this.todoRepository.updateCompleteByIdIn(ids, complete);
+    }
+    if (updated > 0) {
+      List<TodoListIdDto> todos = this.todoRepository.findListIdsByIdIn(ids);
+      this.revisionService.increment();
+      // The events set the completion status, so events for unchanged todos are harmless
+      for (TodoListIdDto todo : todos) {
+        this.eventPublisher.publishEvent(
+          new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, todo.getId(), todo.getListId(), complete)
+        );
+      }
+    }
+    return updated;
   }
 
   /**
    * Deletes the todo with the specified ID. The todo is only deleted if a todo with the specified
-   * ID exists.
+   * ID exists. The todo is deleted with a single statement.
    * 
    * @param id The specified ID
    * @return True if the todo exists and is deleted or false otherwise
    */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
   public boolean delete(Long id) {
-    Optional<TodoEntity> todo = this.todoRepository.findById(id);
-    boolean exist = todo.isPresent();
-    if (exist) {
-      this.todoRepository.deleteById(id);
+    return this.delete(id, null);
+  }
+
+  /**
+   * Deletes the todo with the specified ID, only if the todo has the specified version. The todo
+   * is only deleted if a todo with the specified ID exists. The todo is deleted with a single
+   * statement. The ID of the list containing the todo is read in the same transaction before the
+   * todo is deleted, so the change event reaches the subscribers of the list.
+   * 
+   * @param id The specified ID
+   * @param version The specified version, or <code>null</code> to delete any version
+   * @return True if the todo exists and is deleted or false otherwise
+   * @throws ObjectOptimisticLockingFailureException If the todo exists with another version
+   */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  public boolean delete(Long id, Long version) {
+    Long listId = this.findListId(id);
+    int deleted = version == null
+      ? this.todoRepository.removeById(id)
+      : this.todoRepository.removeByIdAndVersion(id, version);
+    return this.changed(
+      id,
+      version,
+      deleted,
+      new ChangeEvent(ChangeEvent.Type.TODO_DELETED, id, listId, null)
+    );
+  }
+
+  /**
+   * Deletes the todo with the specified ID in the list with the specified list ID. The todo is
+   * only deleted if it exists in the list. The todo is deleted with a single statement, and the
+   * change event has the list ID.
+   * 
+   * @param listId The specified list ID
+   * @param id The specified ID
+   * @return True if the todo exists in the list and is deleted or false otherwise
+   */
+  @Transactional
+  @CacheEvict(cacheNames = CacheConfig.ALL_LISTS, allEntries = true)
+  public boolean deleteInList(Long listId, Long id) {
+    int deleted = this.todoRepository.removeByIdAndListId(id, listId);
+    return this.changed(
+      id,
+      null,
+      deleted,
+      new ChangeEvent(ChangeEvent.Type.TODO_DELETED, id, listId, null)
+    );
+  }
+
+  /**
+   * Handles the result of a statement changing the todo with the specified ID. The revision is
+   * incremented and the specified event is published if the todo changed. If it did not change
+   * although a version was specified, the todo is looked up to tell a conflicting version from a
+   * todo that does not exist.
+   * 
+   * @param id The specified ID
+   * @param version The specified version, or <code>null</code> if no version was specified
+   * @param changed The specified number of changed todos
+   * @param event The specified event describing the change
+   * @return True if the todo changed or false if it does not exist
+   * @throws ObjectOptimisticLockingFailureException If the todo exists with another version
+   */
+  private boolean changed(Long id, Long version, int changed, ChangeEvent event) {
+    if (changed > 0) {
+      this.revisionService.increment();
+      this.eventPublisher.publishEvent(event);
+    } else if (version != null && this.todoRepository.existsById(id)) {
+      throw new ObjectOptimisticLockingFailureException(TodoEntity.class, id);
     }
-    return exist;
+    return changed > 0;
+  }
+
+  /**
+   * Finds the ID of the list containing the todo with the specified ID, without loading the todo.
+   * 
+   * @param id The specified ID
+   * @return The list ID, or <code>null</code> if the todo does not exist
+   */
+  private Long findListId(Long id) {
+    List<TodoListIdDto> todos = this.todoRepository.findListIdsByIdIn(List.of(id));
+    return todos.isEmpty() ? null : todos.get(0).getListId();
+  }
+
+  /**
+   * Publishes the change event of the specified created todo.
+   * 
+   * @param todo The specified todo
+   */
+  private void publishCreated(TodoEntity todo) {
+    this.eventPublisher.publishEvent(new ChangeEvent(
+      ChangeEvent.Type.TODO_CREATED,
+      todo.getId(),
+      todo.getList().getId(),
+      todo.isComplete(),
+      todo.getDescription()
+    ));
   }
 }
@@ -0,0 +1,25 @@
+-- Schema of lists and todos, as previously generated by Hibernate. Databases created by Hibernate
+-- are baselined at this version, so this script only runs against empty databases.
+
+CREATE TABLE IF NOT EXISTS list (
+  list_id BIGINT NOT NULL AUTO_INCREMENT,
+  title VARCHAR(255),
+  PRIMARY KEY (list_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS todo (
+  todo_id BIGINT NOT NULL,
+  complete BIT NOT NULL,
+  description VARCHAR(255),
+  list_id BIGINT NOT NULL,
+  PRIMARY KEY (todo_id),
+  CONSTRAINT fk_todo_list FOREIGN KEY (list_id) REFERENCES list (list_id)
+) ENGINE = InnoDB;
+
+-- MySQL has no sequences, so Hibernate emulates the todo ID sequence with a table
+CREATE TABLE IF NOT EXISTS todo_seq (
+  next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO todo_seq (next_val)
+SELECT 1000 FROM DUAL WHERE NOT EXISTS (SELECT * FROM todo_seq);
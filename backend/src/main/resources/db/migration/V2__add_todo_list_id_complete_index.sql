@@ -0,0 +1,7 @@
+-- Index for reading the todos of a list and counting its completed todos. InnoDB appends the
+-- primary key to secondary indexes, so the index is effectively (list_id, complete, todo_id):
+-- - todos of a list are found without a table scan
+-- - completed and open todos are counted per list from the index alone
+-- - todos of a list filtered by completion are paged in ID order from the index
+-- The index also serves the foreign key, so MySQL drops the index it created for the foreign key.
+CREATE INDEX idx_todo_list_id_complete ON todo (list_id, complete);
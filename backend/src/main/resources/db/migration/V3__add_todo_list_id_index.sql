@@ -0,0 +1,5 @@
+-- Index for reading the todos of a list in ID order. InnoDB appends the primary key to secondary
+-- indexes, so the index is effectively (list_id, todo_id), and pages of a list's todos are read
+-- in order from the index without sorting. The (list_id, complete) index only gives that order
+-- once the completion status is fixed.
+CREATE INDEX idx_todo_list_id ON todo (list_id);
@@ -0,0 +1,9 @@
+-- Global revision of the lists and todos, incremented by every transaction that changes them.
+-- Read by conditional GETs to answer with 304 Not Modified without loading any list.
+CREATE TABLE revision (
+  revision_id INT NOT NULL,
+  revision BIGINT NOT NULL,
+  PRIMARY KEY (revision_id)
+) ENGINE = InnoDB;
+
+INSERT INTO revision (revision_id, revision) VALUES (1, 0);
@@ -0,0 +1,3 @@
+-- Versions for optimistic locking of lists and todos. Existing rows start at version 0.
+ALTER TABLE list ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE todo ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Idempotency keys of POST requests and the IDs of the resources they created, shared by all
+-- instances of the application when the database store is used. Rows expire after the TTL and
+-- are purged periodically.
+CREATE TABLE idempotency_key (
+  idempotency_key VARCHAR(255) NOT NULL,
+  fingerprint CHAR(64) NOT NULL,
+  resource_id BIGINT,
+  created_at BIGINT NOT NULL,
+  PRIMARY KEY (idempotency_key),
+  INDEX idx_idempotency_key_created_at (created_at)
+) ENGINE = InnoDB;
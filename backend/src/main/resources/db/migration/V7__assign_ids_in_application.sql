@@ -0,0 +1,9 @@
+-- IDs of lists and todos are assigned by the application, see SnowflakeIdGenerator, so the list
+-- ID is no longer auto-incremented and the todo ID sequence is no longer used. The generated IDs
+-- are far above any existing ID. Foreign key checks are disabled, since MySQL otherwise refuses to
+-- modify a column referenced by a foreign key.
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE list MODIFY list_id BIGINT NOT NULL;
+SET FOREIGN_KEY_CHECKS = 1;
+
+DROP TABLE IF EXISTS todo_seq;
@@ -0,0 +1,128 @@
+package no.ntnu.idata2502.project.todoapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import no.ntnu.idata2502.project.todoapp.controllers.EventController;
+import no.ntnu.idata2502.project.todoapp.dtos.ListAddDto;
+
+/**
+ * The EventControllerIntegrationTest class represents the integration test class for the
+ * EventController class. The test class contains positive tests of the event controller.
+ * 
+ * <p>The class tests the endpoints in the controller in a production environment, meaning that the
+ * actual communication between the application and the storage is tested here. The event stream is
+ * read with a streaming HTTP client, since the stream does not end on its own.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ * @see EventController
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class EventControllerIntegrationTest {
+
+  @LocalServerPort
+  public int port;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  private String url;
+
+  /**
+   * Set up the production environment.
+   */
+  @BeforeEach
+  public void setUp() {
+    url = "http://localhost:" + port + "/api";
+  }
+
+  /**
+   * Tear down the production environment. This ensures that each test is idempotent.
+   */
+  @AfterEach
+  public void tearDown() {
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    jdbcTemplate.execute("DELETE FROM todo");
+    jdbcTemplate.execute("DELETE FROM list");
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for subscribing to changes. A list is added after subscribing, which
+   * must be streamed to the subscriber as a list created event.</p>
+   * 
+   * <p><code>[GET] /api/events</code></p>
+   */
+  @Test
+  @Order(1)
+  public void testSubscribeToChanges() {
+    HttpClient client = HttpClient.newHttpClient();
+    HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/events"))
+      .header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE)
+      .build();
+
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+      HttpResponse<Stream<String>> response = client.send(
+        request,
+        HttpResponse.BodyHandlers.ofLines()
+      );
+
+      assertEquals(200, response.statusCode());
+
+      try (Stream<String> lines = response.body()) {
+        Long id = restTemplate.exchange(
+          url + "/lists",
+          HttpMethod.POST,
+          new HttpEntity<>(new ListAddDto("Project")),
+          new ParameterizedTypeReference<Long>() {}
+        ).getBody();
+
+        Iterator<String> iterator = lines.iterator();
+        String line = iterator.next();
+        while (!line.equals("event:list_created")) {
+          line = iterator.next();
+        }
+        String data = iterator.next();
+        assertTrue(data.startsWith("data:"));
+        assertTrue(data.contains("\"type\":\"LIST_CREATED\""));
+        assertTrue(data.contains("\"id\":" + id));
+      }
+    });
+  }
+}
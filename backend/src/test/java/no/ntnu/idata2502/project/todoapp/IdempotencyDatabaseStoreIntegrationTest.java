@@ -0,0 +1,312 @@
+package no.ntnu.idata2502.project.todoapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import no.ntnu.idata2502.project.todoapp.dtos.ListAddDto;
+import no.ntnu.idata2502.project.todoapp.dtos.TodoAddDto;
+import no.ntnu.idata2502.project.todoapp.services.IdempotencyService;
+
+/**
+ * The IdempotencyDatabaseStoreIntegrationTest class represents the integration test class for the
+ * database store of the IdempotencyService class. The test class contains positive and negative
+ * tests of requests with idempotency keys, when the keys are stored in the database.
+ * 
+ * <p>The class tests the endpoints creating lists and todos in a production environment, meaning
+ * that the keys are read from and written to the actual storage.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ * @see IdempotencyService
+ */
+@SpringBootTest(
+  webEnvironment = WebEnvironment.RANDOM_PORT,
+  properties = "todoapp.idempotency.store=" + IdempotencyService.DATABASE_STORE
+)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class IdempotencyDatabaseStoreIntegrationTest {
+
+  @LocalServerPort
+  public int port;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private IdempotencyService idempotencyService;
+
+  private String url;
+
+  /**
+   * Set up the production environment.
+   */
+  @BeforeEach
+  public void setUp() {
+    url = "http://localhost:" + port + "/api";
+
+    jdbcTemplate.execute("INSERT INTO list (list_id, title) VALUES (1, 'Groceries')");
+  }
+
+  /**
+   * Tear down the production environment. This ensures that each test is idempotent. The caches
+   * are cleared as well, since the test data is written directly to the storage.
+   */
+  @AfterEach
+  public void tearDown() {
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    jdbcTemplate.execute("DELETE FROM idempotency_key");
+    jdbcTemplate.execute("DELETE FROM todo");
+    jdbcTemplate.execute("DELETE FROM list");
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that a retry of adding a list with the same idempotency key gets the ID of the list
+   * created by the first request back, and that the key is stored with the ID.</p>
+   * 
+   * <p><code>[POST] /api/lists</code></p>
+   */
+  @Test
+  @Order(1)
+  public void testAddListReplayed() {
+    String key = UUID.randomUUID().toString();
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyService.HEADER, key);
+
+    ResponseEntity<Long> first = restTemplate.exchange(
+      url + "/lists",
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+    ResponseEntity<Long> retry = restTemplate.exchange(
+      url + "/lists",
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+
+    assertEquals(HttpStatus.CREATED, first.getStatusCode());
+    assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+    assertNotNull(first.getBody());
+    assertEquals(first.getBody(), retry.getBody());
+    assertEquals(
+      1,
+      jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM list WHERE title = 'Project'",
+        Integer.class
+      )
+    );
+    assertEquals(
+      first.getBody(),
+      jdbcTemplate.queryForObject(
+        "SELECT resource_id FROM idempotency_key WHERE idempotency_key = ?",
+        Long.class,
+        key
+      )
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that a retry of adding a todo with the same idempotency key gets the ID of the todo
+   * created by the first request back.</p>
+   * 
+   * <p><code>[POST] /api/todos/{listId}</code></p>
+   */
+  @Test
+  @Order(2)
+  public void testAddTodoReplayed() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyService.HEADER, UUID.randomUUID().toString());
+
+    ResponseEntity<Long> first = restTemplate.exchange(
+      url + "/todos/1",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoAddDto("Milk"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+    ResponseEntity<Long> retry = restTemplate.exchange(
+      url + "/todos/1",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoAddDto("Milk"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+
+    assertEquals(HttpStatus.CREATED, first.getStatusCode());
+    assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+    assertEquals(first.getBody(), retry.getBody());
+    assertEquals(
+      1,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo WHERE list_id = 1", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that adding a list with an idempotency key already used for adding a list with
+   * another title is rejected, and that no list is created.</p>
+   * 
+   * <p><code>[POST] /api/lists</code></p>
+   */
+  @Test
+  @Order(3)
+  public void testAddListKeyReused() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyService.HEADER, UUID.randomUUID().toString());
+
+    restTemplate.exchange(
+      url + "/lists",
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "/lists",
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Chores"), headers),
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+    assertEquals(
+      "The specified idempotency key has been used for another request",
+      response.getBody()
+    );
+    assertEquals(
+      0,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM list WHERE title = 'Chores'", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that adding a todo with an idempotency key already used for adding a list is
+   * rejected.</p>
+   * 
+   * <p><code>[POST] /api/todos/{listId}</code></p>
+   */
+  @Test
+  @Order(4)
+  public void testAddTodoKeyReused() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyService.HEADER, UUID.randomUUID().toString());
+
+    restTemplate.exchange(
+      url + "/lists",
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "/todos/1",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoAddDto("Milk"), headers),
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+    assertEquals(
+      0,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that an expired idempotency key is replaced by a request using it again, even for
+   * another request, which then creates its list.</p>
+   * 
+   * <p><code>[POST] /api/lists</code></p>
+   */
+  @Test
+  @Order(5)
+  public void testAddListKeyExpired() {
+    String key = UUID.randomUUID().toString();
+    jdbcTemplate.update(
+      "INSERT INTO idempotency_key (idempotency_key, fingerprint, resource_id, created_at) "
+        + "VALUES (?, ?, 1, 0)",
+      key,
+      "0".repeat(64)
+    );
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyService.HEADER, key);
+
+    ResponseEntity<Long> response = restTemplate.exchange(
+      url + "/lists",
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+
+    assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertNotEquals(1L, response.getBody());
+    assertEquals(
+      response.getBody(),
+      jdbcTemplate.queryForObject(
+        "SELECT resource_id FROM idempotency_key WHERE idempotency_key = ?",
+        Long.class,
+        key
+      )
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that purging the idempotency keys deletes the expired keys and keeps the others.</p>
+   */
+  @Test
+  @Order(6)
+  public void testPurgeExpiredKeys() {
+    jdbcTemplate.update(
+      "INSERT INTO idempotency_key (idempotency_key, fingerprint, resource_id, created_at) "
+        + "VALUES ('expired', ?, 1, 0), ('current', ?, 1, ?)",
+      "0".repeat(64),
+      "0".repeat(64),
+      System.currentTimeMillis()
+    );
+
+    idempotencyService.purge();
+
+    assertEquals(
+      "current",
+      jdbcTemplate.queryForObject("SELECT idempotency_key FROM idempotency_key", String.class)
+    );
+  }
+}
@@ -1,12 +1,20 @@
 package no.ntnu.idata2502.project.todoapp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
@@ -18,16 +26,27 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
 import no.ntnu.idata2502.project.todoapp.controllers.ListController;
 import no.ntnu.idata2502.project.todoapp.dtos.ListAddDto;
 import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
+import no.ntnu.idata2502.project.todoapp.services.IdempotencyService;
 
 /**
  * The ListControllerIntegrationTest class represents the integration test class for the
@@ -39,11 +58,17 @@ import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
  * from tests in other test classes, that set up custom testing environments to test their
  * respective classes.</p>
  * 
+ * <p>Hibernate statistics are enabled, so that the number of SQL statements executed by an
+ * endpoint can be asserted.</p>
+ * 
  * @author Candidate 10006
- * @version v1.1.0 (2025.05.04)
+ * @version v1.15.0 (2026.10.18)
  * @see ListController
  */
-@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@SpringBootTest(
+  webEnvironment = WebEnvironment.RANDOM_PORT,
+  properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class ListControllerIntegrationTest {
 
@@ -56,6 +81,15 @@ public class ListControllerIntegrationTest {
   @Autowired
   private JdbcTemplate jdbcTemplate;
 
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
   private String url;
 
   /**
@@ -71,10 +105,13 @@ public class ListControllerIntegrationTest {
   }
 
   /**
-   * Tear down the production environment. This ensures that each test is idempotent.
+   * Tear down the production environment. This ensures that each test is idempotent. The caches
+   * are cleared as well, since the test data is written directly to the storage.
    */
   @AfterEach
   public void tearDown() {
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    jdbcTemplate.execute("DELETE FROM todo");
     jdbcTemplate.execute("DELETE FROM list");
   }
 
@@ -288,4 +325,803 @@ public class ListControllerIntegrationTest {
     assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     assertNotNull(response.getBody());
   }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for getting a page of lists. The endpoint accepts a limit specified as a
+   * request parameter, and the cursor returned with the first page is followed to get the second
+   * and last page.</p>
+   * 
+   * <p><code>[GET] /api/lists?cursor={cursor}&limit={limit}</code></p>
+   */
+  @Test
+  @Order(9)
+  public void testGetListsPage() {
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url + "?limit=2",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    JsonNode body = response.getBody();
+    assertNotNull(body);
+    assertEquals(2, body.get("items").size());
+    assertEquals(1, body.get("items").get(0).get("id").asLong());
+    assertEquals(2, body.get("items").get(1).get("id").asLong());
+
+    String nextCursor = body.get("nextCursor").asText();
+    response = restTemplate.exchange(
+      url + "?limit=2&cursor=" + nextCursor,
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    body = response.getBody();
+    assertNotNull(body);
+    assertEquals(1, body.get("items").size());
+    assertEquals(3, body.get("items").get(0).get("id").asLong());
+    assertNull(body.get("nextCursor").textValue());
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests the endpoint for getting a page of lists. The endpoint accepts a cursor specified as
+   * a request parameter, which is invalid in this test.</p>
+   * 
+   * <p><code>[GET] /api/lists?cursor={cursor}</code></p>
+   */
+  @Test
+  @Order(10)
+  public void testGetListsPageWithInvalidCursor() {
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "?cursor=ninetynine",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("The specified cursor is invalid", response.getBody());
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests the endpoint for getting a page of lists. The endpoint accepts a limit specified as a
+   * request parameter, which is out of bounds in this test.</p>
+   * 
+   * <p><code>[GET] /api/lists?limit={limit}</code></p>
+   */
+  @Test
+  @Order(11)
+  public void testGetListsPageWithInvalidLimit() {
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "?limit=0",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("The specified limit is invalid", response.getBody());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the endpoint for getting all lists and the endpoint for getting a page of lists
+   * execute a constant number of SQL statements, meaning that the todos of each list are not
+   * loaded with one extra statement per list. Both endpoints also read the revision of the lists
+   * for the entity tag.</p>
+   * 
+   * <p><code>[GET] /api/lists</code></p>
+   */
+  @Test
+  @Order(12)
+  public void testGetListsStatementCount() {
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (1, 'Milk', false, 1)"
+    );
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (2, 'Dishes', false, 2)"
+    );
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (3, 'Essay', true, 3)"
+    );
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url,
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(3, response.getBody().size());
+    assertEquals(1, response.getBody().get(2).get("todos").size());
+    assertEquals(2, statistics.getPrepareStatementCount());
+
+    statistics.clear();
+    response = restTemplate.exchange(
+      url + "?limit=3",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(3, response.getBody().get("items").size());
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for getting summaries of all lists.</p>
+   * 
+   * <p><code>[GET] /api/lists/summary</code></p>
+   */
+  @Test
+  @Order(13)
+  public void testGetListSummaries() {
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (1, 'Milk', false, 1)"
+    );
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (2, 'Bread', true, 1)"
+    );
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (3, 'Butter', true, 1)"
+    );
+
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url + "/summary",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    JsonNode body = response.getBody();
+    assertNotNull(body);
+    assertEquals(3, body.size());
+
+    JsonNode summary = body.get(0);
+    assertEquals(1, summary.get("id").asLong());
+    assertEquals("Groceries", summary.get("title").asText());
+    assertEquals(3, summary.get("total").asLong());
+    assertEquals(2, summary.get("completed").asLong());
+    assertNull(summary.get("todos"));
+
+    summary = body.get(1);
+    assertEquals(0, summary.get("total").asLong());
+    assertEquals(0, summary.get("completed").asLong());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for deleting a list. The endpoint accepts an ID specified as a path
+   * variable, which is valid in this test. The list contains todos, which are deleted with the
+   * list, while todos in other lists are kept.</p>
+   * 
+   * <p><code>[DELETE] /api/lists/{id}</code></p>
+   */
+  @Test
+  @Order(14)
+  public void testDeleteListWithTodos() {
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (1, 'Milk', false, 1)"
+    );
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (2, 'Bread', true, 1)"
+    );
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (3, 'Dishes', false, 2)"
+    );
+
+    ResponseEntity<Void> response = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.DELETE,
+      null,
+      new ParameterizedTypeReference<Void>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(
+      0,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM list WHERE list_id = 1", Integer.class)
+    );
+    assertEquals(
+      0,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo WHERE list_id = 1", Integer.class)
+    );
+    assertEquals(
+      1,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo WHERE list_id = 2", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the endpoint for getting all lists is served from the cache until a list is
+   * added, after which the lists are read from the storage again. Only the revision of the lists
+   * is read while they are served from the cache.</p>
+   * 
+   * <p><code>[GET] /api/lists</code></p>
+   */
+  @Test
+  @Order(15)
+  public void testGetListsCache() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    restTemplate.exchange(url, HttpMethod.GET, null, new ParameterizedTypeReference<JsonNode>() {});
+
+    statistics.clear();
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url,
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(3, response.getBody().size());
+    assertEquals(1, statistics.getPrepareStatementCount());
+
+    restTemplate.exchange(
+      url,
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project")),
+      new ParameterizedTypeReference<Long>() {}
+    );
+
+    response = restTemplate.exchange(
+      url,
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(4, response.getBody().size());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for exporting all lists. Each line of the response is a list with its
+   * todos embedded.</p>
+   * 
+   * <p><code>[GET] /api/lists/export</code></p>
+   * 
+   * @throws JsonProcessingException If a line of the response is not valid JSON
+   */
+  @Test
+  @Order(16)
+  public void testExportLists() throws JsonProcessingException {
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (1, 'Milk', false, 1)"
+    );
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (2, 'Bread', true, 1)"
+    );
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (3, 'Essay', false, 3)"
+    );
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "/export",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertTrue(
+      MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType())
+    );
+
+    String body = response.getBody();
+    assertNotNull(body);
+    String[] lines = body.split("\n");
+    assertEquals(3, lines.length);
+
+    JsonNode list = objectMapper.readTree(lines[0]);
+    assertEquals(1, list.get("id").asLong());
+    assertEquals("Groceries", list.get("title").asText());
+    assertEquals(2, list.get("todos").size());
+    assertEquals("Bread", list.get("todos").get(1).get("description").asText());
+    assertEquals(true, list.get("todos").get(1).get("complete").asBoolean());
+
+    list = objectMapper.readTree(lines[1]);
+    assertEquals(2, list.get("id").asLong());
+    assertEquals(0, list.get("todos").size());
+
+    list = objectMapper.readTree(lines[2]);
+    assertEquals(3, list.get("id").asLong());
+    assertEquals(1, list.get("todos").size());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for importing lists. The endpoint accepts lists as newline-delimited
+   * JSON in the request body, of which one is valid, one has an invalid title and one has an
+   * invalid todo in this test.</p>
+   * 
+   * <p><code>[POST] /api/lists/import</code></p>
+   */
+  @Test
+  @Order(17)
+  public void testImportListsWithNdjsonRequestBody() {
+    String ndjson = "{\"title\": \"Project\", \"todos\": "
+      + "[{\"description\": \"Plan\"}, {\"description\": \"Build\", \"complete\": true}]}\n"
+      + "{\"title\": \" \"}\n"
+      + "{\"title\": \"Shopping\", \"todos\": [{\"description\": \"\"}]}\n";
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_NDJSON);
+    HttpEntity<String> request = new HttpEntity<>(ndjson, headers);
+
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url + "/import",
+      HttpMethod.POST,
+      request,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    JsonNode body = response.getBody();
+    assertNotNull(body);
+    assertEquals(1, body.get("imported").asLong());
+    assertEquals(2, body.get("failed").asLong());
+    assertEquals(1, body.get("errors").get(0).get("record").asLong());
+    assertEquals(
+      "The specified list is invalid",
+      body.get("errors").get(0).get("message").asText()
+    );
+    assertEquals(2, body.get("errors").get(1).get("record").asLong());
+
+    assertEquals(
+      2,
+      jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM todo t JOIN list l ON t.list_id = l.list_id "
+          + "WHERE l.title = 'Project'",
+        Integer.class
+      )
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for importing lists. The endpoint accepts lists as a JSON array in the
+   * request body, which is valid in this test.</p>
+   * 
+   * <p><code>[POST] /api/lists/import</code></p>
+   */
+  @Test
+  @Order(18)
+  public void testImportListsWithJsonRequestBody() {
+    String json = "[{\"title\": \"Project\"}, {\"title\": \"Trip\"}]";
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    HttpEntity<String> request = new HttpEntity<>(json, headers);
+
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url + "/import",
+      HttpMethod.POST,
+      request,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    JsonNode body = response.getBody();
+    assertNotNull(body);
+    assertEquals(2, body.get("imported").asLong());
+    assertEquals(0, body.get("failed").asLong());
+    assertEquals(
+      5,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM list", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that adding a list is recorded in the metrics exposed to Prometheus, both as a
+   * request with its result and as a service operation.</p>
+   * 
+   * <p><code>[GET] /actuator/prometheus</code></p>
+   */
+  @Test
+  @Order(19)
+  public void testMetrics() {
+    restTemplate.exchange(
+      url,
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project")),
+      new ParameterizedTypeReference<Long>() {}
+    );
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      "http://localhost:" + port + "/actuator/prometheus",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    String body = response.getBody();
+    assertNotNull(body);
+    assertTrue(body.contains("http_server_requests_seconds_bucket"));
+    assertTrue(body.contains("result=\"created\""));
+    assertTrue(body.contains("todoapp_service_seconds_count"));
+    assertTrue(body.contains("method=\"add\""));
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that getting summaries of lists is recorded in the metrics exposed to Prometheus, both
+   * as a repository call and as the SQL statement it executes.</p>
+   * 
+   * <p><code>[GET] /actuator/prometheus</code></p>
+   */
+  @Test
+  @Order(20)
+  public void testQueryMetrics() {
+    restTemplate.exchange(
+      url + "/summary",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      "http://localhost:" + port + "/actuator/prometheus",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    String body = response.getBody();
+    assertNotNull(body);
+    assertTrue(body.lines().anyMatch(line -> line.startsWith("todoapp_repository_seconds_count")
+      && line.contains("repository=\"ListRepository\"")
+      && line.contains("method=\"findAllSummaries\"")));
+    assertTrue(body.lines().anyMatch(line -> line.startsWith("todoapp_query_seconds_count")
+      && line.contains("repository=\"ListRepository\"")
+      && line.contains("method=\"findAllSummaries\"")
+      && line.contains("type=\"select\"")));
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the connection pool is monitored in the metrics exposed to Prometheus.</p>
+   * 
+   * <p><code>[GET] /actuator/prometheus</code></p>
+   */
+  @Test
+  @Order(21)
+  public void testConnectionPoolMetrics() {
+    ResponseEntity<String> response = restTemplate.exchange(
+      "http://localhost:" + port + "/actuator/prometheus",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    String body = response.getBody();
+    assertNotNull(body);
+    assertTrue(body.contains("hikaricp_connections_active{pool=\"todoapp\"}"));
+    assertTrue(body.contains("hikaricp_connections_idle{pool=\"todoapp\"}"));
+    assertTrue(body.contains("hikaricp_connections_pending{pool=\"todoapp\"}"));
+    assertTrue(body.contains("hikaricp_connections_acquire_seconds_count{pool=\"todoapp\"}"));
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the endpoint for getting all lists answers a request with the entity tag of the
+   * current lists with 304 Not Modified, without reading any list, and answers with the lists again
+   * once a list is added.</p>
+   * 
+   * <p><code>[GET] /api/lists</code></p>
+   */
+  @Test
+  @Order(22)
+  public void testGetListsNotModified() {
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url,
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    String etag = response.getHeaders().getETag();
+    assertNotNull(etag);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch(etag);
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    response = restTemplate.exchange(
+      url,
+      HttpMethod.GET,
+      new HttpEntity<>(headers),
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    assertEquals(etag, response.getHeaders().getETag());
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+
+    restTemplate.exchange(
+      url,
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project")),
+      new ParameterizedTypeReference<Long>() {}
+    );
+
+    response = restTemplate.exchange(
+      url,
+      HttpMethod.GET,
+      new HttpEntity<>(headers),
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(4, response.getBody().size());
+    assertNotEquals(etag, response.getHeaders().getETag());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for adding a list with an idempotency key. A retry with the same key must
+   * get the ID of the list added by the first request, without adding another list.</p>
+   * 
+   * <p><code>[POST] /api/lists</code></p>
+   */
+  @Test
+  @Order(23)
+  public void testAddListIdempotent() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyService.HEADER, UUID.randomUUID().toString());
+
+    ResponseEntity<Long> first = restTemplate.exchange(
+      url,
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+    ResponseEntity<Long> retry = restTemplate.exchange(
+      url,
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+
+    assertEquals(HttpStatus.CREATED, first.getStatusCode());
+    assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+    assertNotNull(first.getBody());
+    assertEquals(first.getBody(), retry.getBody());
+    assertEquals(
+      1,
+      jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM list WHERE title = 'Project'",
+        Integer.class
+      )
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests the endpoint for adding a list with an idempotency key already used for adding a
+   * list with another title.</p>
+   * 
+   * <p><code>[POST] /api/lists</code></p>
+   */
+  @Test
+  @Order(24)
+  public void testAddListIdempotencyKeyReused() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyService.HEADER, UUID.randomUUID().toString());
+
+    restTemplate.exchange(
+      url,
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Project"), headers),
+      new ParameterizedTypeReference<Long>() {}
+    );
+    ResponseEntity<String> response = restTemplate.exchange(
+      url,
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto("Groceries"), headers),
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+    assertEquals(
+      "The specified idempotency key has been used for another request",
+      response.getBody()
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the endpoint for getting all lists as CBOR. The lists must be the same as when
+   * getting them as JSON, in fewer bytes.</p>
+   * 
+   * <p><code>[GET] /api/lists</code></p>
+   * 
+   * @throws IOException If the CBOR cannot be parsed
+   */
+  @Test
+  @Order(25)
+  public void testGetListsAsCbor() throws IOException {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+
+    ResponseEntity<byte[]> cbor = restTemplate.exchange(
+      url,
+      HttpMethod.GET,
+      new HttpEntity<>(headers),
+      byte[].class
+    );
+    ResponseEntity<byte[]> json = restTemplate.exchange(url, HttpMethod.GET, null, byte[].class);
+
+    assertEquals(HttpStatus.OK, cbor.getStatusCode());
+    assertEquals(MediaType.APPLICATION_CBOR, cbor.getHeaders().getContentType());
+    assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(json.getHeaders().getContentType()));
+    assertEquals(
+      new ObjectMapper().readTree(json.getBody()),
+      new CBORMapper().readTree(cbor.getBody())
+    );
+    assertTrue(cbor.getBody().length < json.getBody().length);
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that getting all lists is compressed when the client accepts gzip and the lists are
+   * large enough to be worth compressing.</p>
+   * 
+   * <p><code>[GET] /api/lists</code></p>
+   * 
+   * @throws IOException If the response cannot be decompressed
+   */
+  @Test
+  @Order(26)
+  public void testGetListsCompressed() throws IOException {
+    for (int i = 10; i < 110; i++) {
+      jdbcTemplate.execute("INSERT INTO list (list_id, title) VALUES (" + i + ", 'Project')");
+    }
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+    ResponseEntity<byte[]> response = restTemplate.exchange(
+      url,
+      HttpMethod.GET,
+      new HttpEntity<>(headers),
+      byte[].class
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+      assertEquals(103, new ObjectMapper().readTree(in).size());
+    }
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests the endpoint for importing lists with a title and a description longer than their
+   * columns. The records must be reported as invalid one by one, and the valid records before and
+   * after them must be imported.</p>
+   * 
+   * <p><code>[POST] /api/lists/import</code></p>
+   */
+  @Test
+  @Order(27)
+  public void testImportListsWithTooLongValues() {
+    String tooLong = "a".repeat(ListEntity.MAX_TITLE_LENGTH + 1);
+    String ndjson = "{\"title\": \"Project\"}\n"
+      + "{\"title\": \"" + tooLong + "\"}\n"
+      + "{\"title\": \"Shopping\", \"todos\": [{\"description\": \"" + tooLong + "\"}]}\n"
+      + "{\"title\": \"Trip\"}\n";
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_NDJSON);
+    HttpEntity<String> request = new HttpEntity<>(ndjson, headers);
+
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url + "/import",
+      HttpMethod.POST,
+      request,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    JsonNode body = response.getBody();
+    assertNotNull(body);
+    assertEquals(2, body.get("imported").asLong());
+    assertEquals(2, body.get("failed").asLong());
+    assertEquals(1, body.get("errors").get(0).get("record").asLong());
+    assertEquals(2, body.get("errors").get(1).get("record").asLong());
+    assertEquals(
+      5,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM list", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the revision of the lists is incremented once per committed change, by the time
+   * the response is sent, and not for a rejected change. Importing two lists is one change.</p>
+   * 
+   * <p><code>[POST] /api/lists/import</code></p>
+   */
+  @Test
+  @Order(28)
+  public void testRevisionIncrementedAfterCommit() {
+    String sql = "SELECT revision FROM revision";
+    long revision = jdbcTemplate.queryForObject(sql, Long.class);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    restTemplate.exchange(
+      url + "/import",
+      HttpMethod.POST,
+      new HttpEntity<>("[{\"title\": \"Project\"}, {\"title\": \"Trip\"}]", headers),
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(revision + 1, jdbcTemplate.queryForObject(sql, Long.class));
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      url,
+      HttpMethod.POST,
+      new HttpEntity<>(new ListAddDto(" ")),
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals(revision + 1, jdbcTemplate.queryForObject(sql, Long.class));
+  }
 }
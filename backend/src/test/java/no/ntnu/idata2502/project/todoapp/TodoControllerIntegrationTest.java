@@ -2,8 +2,12 @@ package no.ntnu.idata2502.project.todoapp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.UUID;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
@@ -15,16 +19,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import no.ntnu.idata2502.project.todoapp.controllers.TodoController;
 import no.ntnu.idata2502.project.todoapp.dtos.TodoAddDto;
+import no.ntnu.idata2502.project.todoapp.dtos.TodoBatchUpdateDto;
 import no.ntnu.idata2502.project.todoapp.dtos.TodoUpdateDto;
+import no.ntnu.idata2502.project.todoapp.services.IdempotencyService;
 
 /**
  * The TodoControllerIntegrationTest class represents the integration test class for the
@@ -37,7 +47,7 @@ import no.ntnu.idata2502.project.todoapp.dtos.TodoUpdateDto;
  * respective classes.</p>
  * 
  * @author Candidate 10006
- * @version v1.1.0 (2025.05.04)
+ * @version v1.7.0 (2026.10.18)
  * @see TodoController
  */
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
@@ -53,6 +63,9 @@ public class TodoControllerIntegrationTest {
   @Autowired
   private JdbcTemplate jdbcTemplate;
 
+  @Autowired
+  private CacheManager cacheManager;
+
   private String url;
 
   /**
@@ -78,10 +91,12 @@ public class TodoControllerIntegrationTest {
   }
 
   /**
-   * Tear down the production environment. This ensures that each test is idempotent.
+   * Tear down the production environment. This ensures that each test is idempotent. The caches
+   * are cleared as well, since the test data is written directly to the storage.
    */
   @AfterEach
   public void tearDown() {
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     jdbcTemplate.execute("DELETE FROM todo");
     jdbcTemplate.execute("DELETE FROM list");
   }
@@ -289,6 +304,10 @@ public class TodoControllerIntegrationTest {
     );
 
     assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(
+      true,
+      jdbcTemplate.queryForObject("SELECT complete FROM todo WHERE todo_id = 1", Boolean.class)
+    );
   }
 
   /**
@@ -415,4 +434,517 @@ public class TodoControllerIntegrationTest {
     assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     assertNotNull(response.getBody());
   }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Test the endpoint for adding todos in one batch. The endpoint accepts a list ID specified
+   * as a path variable and descriptions specified in the request body, which are valid in this
+   * test.</p>
+   * 
+   * <p><code>[POST] /api/todos/{listId}/batch</code></p>
+   */
+  @Test
+  @Order(13)
+  public void testAddTodosWithValidRequest() {
+    String testUrl = url + "/1/batch";
+
+    List<TodoAddDto> dtos = List.of(
+      new TodoAddDto("Apple juice"),
+      new TodoAddDto("Cheese"),
+      new TodoAddDto("Eggs")
+    );
+    HttpEntity<List<TodoAddDto>> request = new HttpEntity<>(dtos);
+
+    ResponseEntity<List<Long>> response = restTemplate.exchange(
+      testUrl,
+      HttpMethod.POST,
+      request,
+      new ParameterizedTypeReference<List<Long>>() {}
+    );
+
+    assertEquals(HttpStatus.CREATED, response.getStatusCode());
+
+    List<Long> body = response.getBody();
+    assertNotNull(body);
+    assertEquals(3, body.size());
+    assertTrue(body.get(0) < body.get(1) && body.get(1) < body.get(2));
+    assertEquals(
+      "Cheese",
+      jdbcTemplate.queryForObject(
+        "SELECT description FROM todo WHERE todo_id = ?",
+        String.class,
+        body.get(1)
+      )
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for adding todos in one batch. The endpoint accepts a list ID specified
+   * as a path variable and descriptions specified in the request body, in which one of the
+   * descriptions is just white space in this test. No todo is added.</p>
+   * 
+   * <p><code>[POST] /api/todos/{listId}/batch</code></p>
+   */
+  @Test
+  @Order(14)
+  public void testAddTodosWithInvalidRequestBody() {
+    String testUrl = url + "/1/batch";
+
+    List<TodoAddDto> dtos = List.of(new TodoAddDto("Apple juice"), new TodoAddDto(" "));
+    HttpEntity<List<TodoAddDto>> request = new HttpEntity<>(dtos);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      testUrl,
+      HttpMethod.POST,
+      request,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("The specified todo at index 1 is invalid", response.getBody());
+    assertEquals(
+      3,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for adding todos in one batch. The endpoint accepts a list ID specified
+   * as a path variable and descriptions specified in the request body, in which the list ID is
+   * invalid in this test.</p>
+   * 
+   * <p><code>[POST] /api/todos/{listId}/batch</code></p>
+   */
+  @Test
+  @Order(15)
+  public void testAddTodosWithInvalidPathVariable() {
+    String testUrl = url + "/99/batch";
+
+    List<TodoAddDto> dtos = List.of(new TodoAddDto("Apple juice"));
+    HttpEntity<List<TodoAddDto>> request = new HttpEntity<>(dtos);
+
+    ResponseEntity<Void> response = restTemplate.exchange(
+      testUrl,
+      HttpMethod.POST,
+      request,
+      new ParameterizedTypeReference<Void>() {}
+    );
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Test the endpoint for updating a todo. The endpoint accepts an ID specified as a path
+   * variable and a updated completion status specified in the request body, in which the
+   * completion status is the same as the current one in this test. The todo still exists, so the
+   * update succeeds.</p>
+   * 
+   * <p><code>[PUT] /api/todos/{id}</code></p>
+   */
+  @Test
+  @Order(16)
+  public void testUpdateTodoWithUnchangedCompletionStatus() {
+    String testUrl = url + "/1";
+
+    TodoUpdateDto dto = new TodoUpdateDto(false);
+    HttpEntity<TodoUpdateDto> request = new HttpEntity<>(dto);
+
+    ResponseEntity<Void> response = restTemplate.exchange(
+      testUrl,
+      HttpMethod.PUT,
+      request,
+      new ParameterizedTypeReference<Void>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Test the endpoint for updating todos in one batch. The endpoint accepts a list ID and an
+   * updated completion status specified in the request body, which are valid in this test.</p>
+   * 
+   * <p><code>[PUT] /api/todos/batch</code></p>
+   */
+  @Test
+  @Order(17)
+  public void testUpdateTodosInListWithValidRequest() {
+    String testUrl = url + "/batch";
+
+    TodoBatchUpdateDto dto = new TodoBatchUpdateDto(1L, null, true);
+    HttpEntity<TodoBatchUpdateDto> request = new HttpEntity<>(dto);
+
+    ResponseEntity<Integer> response = restTemplate.exchange(
+      testUrl,
+      HttpMethod.PUT,
+      request,
+      new ParameterizedTypeReference<Integer>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(3, response.getBody());
+    assertEquals(
+      3,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo WHERE complete", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Test the endpoint for updating todos in one batch. The endpoint accepts todo IDs and an
+   * updated completion status specified in the request body, which are valid in this test. The ID
+   * of a todo that does not exist is ignored.</p>
+   * 
+   * <p><code>[PUT] /api/todos/batch</code></p>
+   */
+  @Test
+  @Order(18)
+  public void testUpdateTodosWithValidRequest() {
+    String testUrl = url + "/batch";
+
+    TodoBatchUpdateDto dto = new TodoBatchUpdateDto(null, List.of(1L, 2L, 99L), true);
+    HttpEntity<TodoBatchUpdateDto> request = new HttpEntity<>(dto);
+
+    ResponseEntity<Integer> response = restTemplate.exchange(
+      testUrl,
+      HttpMethod.PUT,
+      request,
+      new ParameterizedTypeReference<Integer>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(2, response.getBody());
+    assertEquals(
+      false,
+      jdbcTemplate.queryForObject("SELECT complete FROM todo WHERE todo_id = 3", Boolean.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for updating todos in one batch. The endpoint accepts a list ID or todo
+   * IDs specified in the request body, of which both are specified in this test.</p>
+   * 
+   * <p><code>[PUT] /api/todos/batch</code></p>
+   */
+  @Test
+  @Order(19)
+  public void testUpdateTodosWithInvalidRequestBody() {
+    String testUrl = url + "/batch";
+
+    TodoBatchUpdateDto dto = new TodoBatchUpdateDto(1L, List.of(1L), true);
+    HttpEntity<TodoBatchUpdateDto> request = new HttpEntity<>(dto);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      testUrl,
+      HttpMethod.PUT,
+      request,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("Either a list ID or todo IDs must be specified", response.getBody());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Test the endpoint for getting todos. The endpoint accepts a list ID, a completion status, a
+   * cursor and a limit specified as request parameters, which are valid in this test. The open
+   * todos of the list are read one per page by following the cursors.</p>
+   * 
+   * <p><code>[GET] /api/todos?listId={listId}&amp;complete={complete}&amp;cursor={cursor}&amp;
+   * limit={limit}</code></p>
+   */
+  @Test
+  @Order(20)
+  public void testGetTodosWithValidRequestParameters() {
+    jdbcTemplate.execute("UPDATE todo SET complete = true WHERE todo_id = 2");
+
+    ResponseEntity<JsonNode> response = restTemplate.exchange(
+      url + "?listId=1&complete=false&limit=1",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    JsonNode body = response.getBody();
+    assertNotNull(body);
+    assertEquals(1, body.get("items").size());
+    assertEquals(1, body.get("items").get(0).get("id").asLong());
+    assertTrue(body.get("nextCursor").isTextual());
+
+    response = restTemplate.exchange(
+      url + "?listId=1&complete=false&limit=1&cursor=" + body.get("nextCursor").asText(),
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<JsonNode>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    body = response.getBody();
+    assertNotNull(body);
+    assertEquals(1, body.get("items").size());
+    assertEquals(3, body.get("items").get(0).get("id").asLong());
+    assertNull(body.get("nextCursor").textValue());
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for getting todos. The endpoint accepts a list ID, a completion status, a
+   * cursor and a limit specified as request parameters, in which the list ID is invalid in this
+   * test.</p>
+   * 
+   * <p><code>[GET] /api/todos?listId={listId}</code></p>
+   */
+  @Test
+  @Order(21)
+  public void testGetTodosWithInvalidListId() {
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "?listId=99",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for getting todos. The endpoint accepts a list ID, a completion status, a
+   * cursor and a limit specified as request parameters, in which the limit is invalid in this
+   * test.</p>
+   * 
+   * <p><code>[GET] /api/todos?listId={listId}&amp;limit={limit}</code></p>
+   */
+  @Test
+  @Order(22)
+  public void testGetTodosWithInvalidLimit() {
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "?listId=1&limit=0",
+      HttpMethod.GET,
+      null,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("The specified limit is invalid", response.getBody());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Test the endpoint for updating a todo. The endpoint accepts an ID specified as a path
+   * variable, an entity tag specified in the If-Match header and a updated completion status
+   * specified in the request body, which are valid in this test.</p>
+   * 
+   * <p><code>[PUT] /api/todos/{id}</code></p>
+   */
+  @Test
+  @Order(23)
+  public void testUpdateTodoWithMatchingVersion() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfMatch("\"0\"");
+    HttpEntity<TodoUpdateDto> request = new HttpEntity<>(new TodoUpdateDto(true), headers);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.PUT,
+      request,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("\"1\"", response.getHeaders().getETag());
+    assertEquals(
+      1,
+      jdbcTemplate.queryForObject("SELECT version FROM todo WHERE todo_id = 1", Long.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for updating a todo. The endpoint accepts an ID specified as a path
+   * variable, an entity tag specified in the If-Match header and a updated completion status
+   * specified in the request body, in which the entity tag is stale in this test, since another
+   * client has updated the todo.</p>
+   * 
+   * <p><code>[PUT] /api/todos/{id}</code></p>
+   */
+  @Test
+  @Order(24)
+  public void testUpdateTodoWithStaleVersion() {
+    restTemplate.exchange(
+      url + "/1",
+      HttpMethod.PUT,
+      new HttpEntity<>(new TodoUpdateDto(true)),
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfMatch("\"0\"");
+    HttpEntity<TodoUpdateDto> request = new HttpEntity<>(new TodoUpdateDto(false), headers);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.PUT,
+      request,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    assertEquals(
+      true,
+      jdbcTemplate.queryForObject("SELECT complete FROM todo WHERE todo_id = 1", Boolean.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for deleting a todo. The endpoint accepts an ID specified as a path
+   * variable and an entity tag specified in the If-Match header, in which the entity tag is stale
+   * in this test.</p>
+   * 
+   * <p><code>[DELETE] /api/todos/{id}</code></p>
+   */
+  @Test
+  @Order(25)
+  public void testDeleteTodoWithStaleVersion() {
+    jdbcTemplate.execute("UPDATE todo SET version = 2 WHERE todo_id = 1");
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfMatch("\"1\"");
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.DELETE,
+      new HttpEntity<>(headers),
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    assertEquals(
+      3,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for updating a todo. The endpoint accepts an ID specified as a path
+   * variable, an entity tag specified in the If-Match header and a updated completion status
+   * specified in the request body, in which the entity tag is invalid in this test.</p>
+   * 
+   * <p><code>[PUT] /api/todos/{id}</code></p>
+   */
+  @Test
+  @Order(26)
+  public void testUpdateTodoWithInvalidEntityTag() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.IF_MATCH, "W/\"0\"");
+    HttpEntity<TodoUpdateDto> request = new HttpEntity<>(new TodoUpdateDto(true), headers);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.PUT,
+      request,
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("The specified entity tag is invalid", response.getBody());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Test the endpoint for adding a todo. The endpoint accepts a list ID specified as a path
+   * variable, an idempotency key specified in the Idempotency-Key header and a description
+   * specified in the request body, in which the request is retried in this test.</p>
+   * 
+   * <p><code>[POST] /api/todos/{listId}</code></p>
+   */
+  @Test
+  @Order(27)
+  public void testAddTodoIdempotent() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyService.HEADER, UUID.randomUUID().toString());
+    HttpEntity<TodoAddDto> request = new HttpEntity<>(new TodoAddDto("Cheese"), headers);
+
+    ResponseEntity<Long> first = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.POST,
+      request,
+      new ParameterizedTypeReference<Long>() {}
+    );
+    ResponseEntity<Long> retry = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.POST,
+      request,
+      new ParameterizedTypeReference<Long>() {}
+    );
+
+    assertEquals(HttpStatus.CREATED, first.getStatusCode());
+    assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+    assertNotNull(first.getBody());
+    assertEquals(first.getBody(), retry.getBody());
+    assertEquals(
+      4,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo", Integer.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Test the endpoint for adding a todo. The list is cached by the first request and then
+   * deleted directly in the storage, as by another instance of the application, so it is still
+   * seen as existing by the second request.</p>
+   * 
+   * <p><code>[POST] /api/todos/{listId}</code></p>
+   */
+  @Test
+  @Order(28)
+  public void testAddTodoToListDeletedElsewhere() {
+    ResponseEntity<Long> first = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoAddDto("Cheese")),
+      new ParameterizedTypeReference<Long>() {}
+    );
+    jdbcTemplate.execute("DELETE FROM todo");
+    jdbcTemplate.execute("DELETE FROM list");
+    ResponseEntity<String> second = restTemplate.exchange(
+      url + "/1",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoAddDto("Cheese")),
+      new ParameterizedTypeReference<String>() {}
+    );
+
+    assertEquals(HttpStatus.CREATED, first.getStatusCode());
+    assertEquals(HttpStatus.NOT_FOUND, second.getStatusCode());
+    assertEquals(
+      0,
+      jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo", Integer.class)
+    );
+  }
 }
@@ -0,0 +1,359 @@
+package no.ntnu.idata2502.project.todoapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import no.ntnu.idata2502.project.todoapp.controllers.TodoMessageController;
+import no.ntnu.idata2502.project.todoapp.dtos.TodoAddDto;
+import no.ntnu.idata2502.project.todoapp.dtos.TodoUpdateDto;
+import no.ntnu.idata2502.project.todoapp.events.DeltaBatcherTest;
+
+/**
+ * The TodoMessageControllerIntegrationTest class represents the integration test class for the
+ * TodoMessageController class. The test class contains positive and negative tests of the STOMP
+ * controller.
+ * 
+ * <p>The class tests the destinations in the controller in a production environment, meaning that
+ * the actual communication between the application and the storage is tested here. Changes are
+ * sent and received over a STOMP session, like a client of the sync channel would.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.2.0 (2026.10.18)
+ * @see TodoMessageController
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TodoMessageControllerIntegrationTest {
+
+  @LocalServerPort
+  public int port;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  private WebSocketStompClient stompClient;
+
+  private StompSession session;
+
+  /**
+   * Set up the production environment.
+   * 
+   * @throws Exception If the STOMP session cannot be connected
+   */
+  @BeforeEach
+  public void setUp() throws Exception {
+    jdbcTemplate.execute(
+      "INSERT INTO list (list_id, title) VALUES (1, 'Groceries')"
+    );
+
+    jdbcTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, list_id) VALUES (1, 'Milk', false, 1)"
+    );
+
+    stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+    stompClient.setMessageConverter(new CompositeMessageConverter(
+      List.of(new StringMessageConverter(), new MappingJackson2MessageConverter())
+    ));
+    session = stompClient.connectAsync(
+      "ws://localhost:" + port + "/ws",
+      new StompSessionHandlerAdapter() {}
+    ).get(5, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Tear down the production environment. This ensures that each test is idempotent.
+   */
+  @AfterEach
+  public void tearDown() {
+    session.disconnect();
+    stompClient.stop();
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    jdbcTemplate.execute("DELETE FROM todo");
+    jdbcTemplate.execute("DELETE FROM list");
+  }
+
+  /**
+   * Subscribes to the specified destination.
+   * 
+   * @param <T> The type of the payloads
+   * @param destination The specified destination
+   * @param payloadType The specified type of the payloads
+   * @return The queue the received payloads are put in
+   */
+  private <T> BlockingQueue<T> subscribe(String destination, Class<T> payloadType) {
+    BlockingQueue<T> frames = new LinkedBlockingQueue<>();
+    session.subscribe(destination, new StompFrameHandler() {
+      @Override
+      public Type getPayloadType(StompHeaders headers) {
+        return payloadType;
+      }
+
+      @Override
+      public void handleFrame(StompHeaders headers, Object payload) {
+        frames.add(payloadType.cast(payload));
+      }
+    });
+    return frames;
+  }
+
+  /**
+   * Waits until the subscription of the specified queue to the destination of the list with ID 1
+   * is active, by updating a todo in the list until a frame is received. The subscription is
+   * registered asynchronously, so changes made before it is active are never received.
+   * 
+   * @param frames The specified queue of received frames
+   * @throws InterruptedException If interrupted while waiting for a frame
+   */
+  private void awaitSubscribed(BlockingQueue<JsonNode> frames) throws InterruptedException {
+    JsonNode frame = null;
+    for (int i = 0; i < 10 && frame == null; i++) {
+      session.send("/app/lists/1/todos/1/update", new TodoUpdateDto(false));
+      frame = frames.poll(500, TimeUnit.MILLISECONDS);
+    }
+    assertNotNull(frame);
+  }
+
+  /**
+   * Waits for a change matching the specified type and completion status in the specified queue,
+   * skipping the other changes.
+   * 
+   * @param frames The specified queue of received frames
+   * @param type The specified type of change
+   * @param complete The specified completion status, or <code>null</code> for any
+   * @return The change, or <code>null</code> if none is received in time
+   * @throws InterruptedException If interrupted while waiting for a frame
+   */
+  private JsonNode awaitChange(BlockingQueue<JsonNode> frames, String type, Boolean complete)
+    throws InterruptedException {
+    JsonNode change = null;
+    long deadline = System.currentTimeMillis() + 5000;
+    while (change == null && System.currentTimeMillis() < deadline) {
+      JsonNode frame = frames.poll(500, TimeUnit.MILLISECONDS);
+      for (int i = 0; frame != null && i < frame.size(); i++) {
+        JsonNode candidate = frame.get(i);
+        if (
+          type.equals(candidate.get("type").asText())
+            && (complete == null || complete == candidate.get("complete").asBoolean())
+        ) {
+          change = candidate;
+        }
+      }
+    }
+    return change;
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the destination for adding a todo. The added todo must be sent to the subscribers of
+   * the list with its description.</p>
+   * 
+   * <p><code>[SEND] /app/lists/{listId}/todos/add</code></p>
+   * 
+   * @throws InterruptedException If interrupted while waiting for the frame
+   */
+  @Test
+  @Order(1)
+  public void testAddTodo() throws InterruptedException {
+    BlockingQueue<JsonNode> frames = subscribe("/topic/lists/1", JsonNode.class);
+
+    session.send("/app/lists/1/todos/add", new TodoAddDto("Bread"));
+
+    JsonNode frame = frames.poll(5, TimeUnit.SECONDS);
+    assertNotNull(frame);
+    assertEquals(1, frame.size());
+    assertEquals("TODO_CREATED", frame.get(0).get("type").asText());
+    assertEquals("Bread", frame.get(0).get("description").asText());
+    assertEquals(
+      1,
+      jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM todo WHERE description = 'Bread'",
+        Integer.class
+      )
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests the destination for updating a todo. The subscribers of the list must receive the
+   * last state of the todo. How the toggles are coalesced within a tick is tested in
+   * {@link DeltaBatcherTest}, since the toggles may be split across ticks here.</p>
+   * 
+   * <p><code>[SEND] /app/lists/{listId}/todos/{id}/update</code></p>
+   * 
+   * @throws InterruptedException If interrupted while waiting for the frames
+   */
+  @Test
+  @Order(2)
+  public void testUpdateTodo() throws InterruptedException {
+    BlockingQueue<JsonNode> frames = subscribe("/topic/lists/1", JsonNode.class);
+
+    for (int i = 0; i < 10; i++) {
+      session.send("/app/lists/1/todos/1/update", new TodoUpdateDto(i % 2 == 0));
+    }
+
+    JsonNode frame = frames.poll(5, TimeUnit.SECONDS);
+    assertNotNull(frame);
+    JsonNode last = null;
+    while (frame != null) {
+      assertEquals(1, frame.size());
+      last = frame.get(0);
+      assertEquals("TODO_UPDATED", last.get("type").asText());
+      assertEquals(1, last.get("id").asLong());
+      assertEquals(1, last.get("listId").asLong());
+      frame = frames.poll(1, TimeUnit.SECONDS);
+    }
+    assertFalse(last.get("complete").asBoolean());
+    assertEquals(
+      false,
+      jdbcTemplate.queryForObject("SELECT complete FROM todo WHERE todo_id = 1", Boolean.class)
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests the destination for deleting a todo that does not exist. The error message must be
+   * sent back to the sender.</p>
+   * 
+   * <p><code>[SEND] /app/lists/{listId}/todos/{id}/delete</code></p>
+   * 
+   * @throws InterruptedException If interrupted while waiting for the error message
+   */
+  @Test
+  @Order(3)
+  public void testDeleteTodoNotFound() throws InterruptedException {
+    BlockingQueue<String> errors = subscribe("/user/queue/errors", String.class);
+
+    session.send("/app/lists/1/todos/2/delete", "");
+
+    assertEquals("The specified todo does not exist", errors.poll(5, TimeUnit.SECONDS));
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests the destination for updating a todo in a list that does not contain it. The todo
+   * must be left unchanged, and the error message must be sent back to the sender.</p>
+   * 
+   * <p><code>[SEND] /app/lists/{listId}/todos/{id}/update</code></p>
+   * 
+   * @throws InterruptedException If interrupted while waiting for the error message
+   */
+  @Test
+  @Order(4)
+  public void testUpdateTodoInOtherList() throws InterruptedException {
+    BlockingQueue<String> errors = subscribe("/user/queue/errors", String.class);
+
+    session.send("/app/lists/2/todos/1/update", new TodoUpdateDto(true));
+
+    assertEquals("The specified todo does not exist", errors.poll(5, TimeUnit.SECONDS));
+    assertEquals(
+      false,
+      jdbcTemplate.queryForObject("SELECT complete FROM todo WHERE todo_id = 1", Boolean.class)
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that updating a todo by its ID through the REST API sends the change to the
+   * subscribers of the list containing the todo.</p>
+   * 
+   * <p><code>[PUT] /api/todos/{id}</code></p>
+   * 
+   * @throws InterruptedException If interrupted while waiting for the frames
+   */
+  @Test
+  @Order(5)
+  public void testRestUpdateSentToList() throws InterruptedException {
+    BlockingQueue<JsonNode> frames = subscribe("/topic/lists/1", JsonNode.class);
+    awaitSubscribed(frames);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      "http://localhost:" + port + "/api/todos/1",
+      HttpMethod.PUT,
+      new HttpEntity<>(new TodoUpdateDto(true)),
+      String.class
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    JsonNode change = awaitChange(frames, "TODO_UPDATED", true);
+    assertNotNull(change);
+    assertEquals(1, change.get("id").asLong());
+    assertEquals(1, change.get("listId").asLong());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that deleting a todo by its ID through the REST API sends the change to the
+   * subscribers of the list that contained the todo.</p>
+   * 
+   * <p><code>[DELETE] /api/todos/{id}</code></p>
+   * 
+   * @throws InterruptedException If interrupted while waiting for the frames
+   */
+  @Test
+  @Order(6)
+  public void testRestDeleteSentToList() throws InterruptedException {
+    BlockingQueue<JsonNode> frames = subscribe("/topic/lists/1", JsonNode.class);
+    awaitSubscribed(frames);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      "http://localhost:" + port + "/api/todos/1",
+      HttpMethod.DELETE,
+      null,
+      String.class
+    );
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    JsonNode change = awaitChange(frames, "TODO_DELETED", null);
+    assertNotNull(change);
+    assertEquals(1, change.get("id").asLong());
+    assertEquals(1, change.get("listId").asLong());
+  }
+}
@@ -0,0 +1,330 @@
+package no.ntnu.idata2502.project.todoapp.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import no.ntnu.idata2502.project.todoapp.config.ReplicaDataSourceConfig;
+import no.ntnu.idata2502.project.todoapp.dtos.ListSummaryDto;
+import no.ntnu.idata2502.project.todoapp.entites.ListEntity;
+import no.ntnu.idata2502.project.todoapp.services.ListService;
+import no.ntnu.idata2502.project.todoapp.services.RevisionService;
+
+/**
+ * The ReplicaDataSourceIntegrationTest class represents the integration test class for the
+ * ReplicaDataSourceConfig class. The test class contains positive and negative tests of the data
+ * sources configured when a read replica is set, and of the routing of real service calls and
+ * requests.
+ * 
+ * <p>The primary and the replica are two in-memory H2 databases. The schema is created on the
+ * primary by Hibernate and on the replica by the test, and the databases are given different
+ * lists and revisions, so that the database a service call was routed to can be read back. The
+ * lag of the replica is read from a table in the replica. Unknown settings are ignored, since the
+ * pools are configured with MySQL driver properties.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.1.0 (2026.10.18)
+ * @see ReplicaDataSourceConfig
+ */
+@SpringBootTest(properties = {
+  "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+  "spring.datasource.driver-class-name=org.h2.Driver",
+  "spring.datasource.username=sa",
+  "spring.datasource.password=",
+  "spring.flyway.enabled=false",
+  "spring.jpa.hibernate.ddl-auto=create-drop",
+  "spring.cache.type=none",
+  "todoapp.datasource.replica.url=" + ReplicaDataSourceIntegrationTest.REPLICA_URL,
+  "todoapp.datasource.replica.lag-query=SELECT lag FROM replica_status",
+  "todoapp.datasource.replica.lag-column=lag"
+})
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReplicaDataSourceIntegrationTest {
+
+  static final String REPLICA_URL =
+    "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE";
+
+  @Autowired
+  private ApplicationContext applicationContext;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ReplicaLagMonitor lagMonitor;
+
+  @Autowired
+  private ListService listService;
+
+  @Autowired
+  private RevisionService revisionService;
+
+  @Autowired
+  private HealthContributorRegistry healthContributorRegistry;
+
+  @Autowired
+  @Qualifier("primaryDataSource")
+  private DataSource primaryDataSource;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  @Autowired
+  private DataSource dataSource;
+
+  private JdbcTemplate replicaTemplate;
+
+  /**
+   * Set up the primary and the replica. The replica is written to directly, as replication would,
+   * and its lag is checked, so that it is usable.
+   */
+  @BeforeEach
+  public void setUp() {
+    replicaTemplate = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    replicaTemplate.execute("CREATE TABLE IF NOT EXISTS replica_status (lag INT)");
+    replicaTemplate.execute(
+      "CREATE TABLE IF NOT EXISTS revision ("
+        + "revision_id INT PRIMARY KEY, revision BIGINT NOT NULL)"
+    );
+    replicaTemplate.execute(
+      "CREATE TABLE IF NOT EXISTS list ("
+        + "list_id BIGINT PRIMARY KEY, title VARCHAR(255), version BIGINT NOT NULL)"
+    );
+    replicaTemplate.execute(
+      "CREATE TABLE IF NOT EXISTS todo ("
+        + "todo_id BIGINT PRIMARY KEY, description VARCHAR(255), complete BOOLEAN, "
+        + "version BIGINT NOT NULL, list_id BIGINT NOT NULL)"
+    );
+
+    jdbcTemplate.execute("INSERT INTO revision (revision_id, revision) VALUES (1, 1)");
+    jdbcTemplate.execute("INSERT INTO list (list_id, title, version) VALUES (1, 'Primary', 0)");
+    replicaTemplate.execute("INSERT INTO revision (revision_id, revision) VALUES (1, 2)");
+    replicaTemplate.execute("INSERT INTO list (list_id, title, version) VALUES (1, 'Replica', 0)");
+    replicaTemplate.execute(
+      "INSERT INTO todo (todo_id, description, complete, version, list_id) "
+        + "VALUES (1, 'Milk', false, 0, 1)"
+    );
+    replicaTemplate.execute("INSERT INTO replica_status (lag) VALUES (0)");
+
+    lagMonitor.check();
+  }
+
+  /**
+   * Tear down the primary and the replica. This ensures that each test is idempotent.
+   */
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.execute("DELETE FROM todo");
+    jdbcTemplate.execute("DELETE FROM list");
+    jdbcTemplate.execute("DELETE FROM revision");
+    replicaTemplate.execute("DELETE FROM todo");
+    replicaTemplate.execute("DELETE FROM list");
+    replicaTemplate.execute("DELETE FROM revision");
+    replicaTemplate.execute("DELETE FROM replica_status");
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the revision and all lists are read from the replica by the same service call
+   * used by the endpoint for getting all lists.</p>
+   */
+  @Test
+  @Order(1)
+  public void testReadRoutedToReplica() {
+    List<Long> revisions = new ArrayList<>();
+    Iterable<ListEntity> lists = revisionService.read(revision -> {
+      revisions.add(revision);
+      return listService.getAll(revision);
+    });
+
+    assertEquals(List.of(2L), revisions);
+    List<String> titles = new ArrayList<>();
+    lists.forEach(list -> {
+      titles.add(list.getTitle());
+      assertEquals(1, list.getTodos().size());
+    });
+    assertEquals(List.of("Replica"), titles);
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the summaries of all lists are read from the replica by the same service call
+   * used by the endpoint for getting them.</p>
+   */
+  @Test
+  @Order(2)
+  public void testSummariesRoutedToReplica() {
+    List<ListSummaryDto> summaries = revisionService.read(revision -> listService.getSummaries());
+
+    assertEquals(
+      List.of("Replica"),
+      summaries.stream().map(ListSummaryDto::getTitle).collect(Collectors.toList())
+    );
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that the revision and all lists are read from the primary while the replica lags too
+   * far behind.</p>
+   */
+  @Test
+  @Order(3)
+  public void testReadRoutedToPrimaryWhileReplicaLags() {
+    replicaTemplate.execute("UPDATE replica_status SET lag = 60");
+    lagMonitor.check();
+
+    List<Long> revisions = new ArrayList<>();
+    Iterable<ListEntity> lists = revisionService.read(revision -> {
+      revisions.add(revision);
+      return listService.getAll(revision);
+    });
+
+    assertFalse(lagMonitor.isUsable());
+    assertEquals(List.of(1L), revisions);
+    List<String> titles = new ArrayList<>();
+    lists.forEach(list -> titles.add(list.getTitle()));
+    assertEquals(List.of("Primary"), titles);
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the pools of the primary and the replica are each wrapped exactly once by the
+   * statement metrics, and that the data source used by the application routes between the
+   * wrapped pools.</p>
+   */
+  @Test
+  @Order(4)
+  public void testPoolsWrappedOnce() {
+    assertEquals(2, applicationContext.getBeansOfType(ProxyDataSource.class).size());
+    for (DataSource pool : List.of(primaryDataSource, replicaDataSource)) {
+      ProxyDataSource proxy = assertInstanceOf(ProxyDataSource.class, pool);
+      assertInstanceOf(HikariDataSource.class, proxy.getDataSource());
+    }
+
+    LazyConnectionDataSourceProxy lazyProxy = assertInstanceOf(
+      LazyConnectionDataSourceProxy.class,
+      dataSource
+    );
+    ReplicaRoutingDataSource routingDataSource = assertInstanceOf(
+      ReplicaRoutingDataSource.class,
+      lazyProxy.getTargetDataSource()
+    );
+    assertSame(
+      primaryDataSource,
+      routingDataSource.getResolvedDataSources().get(ReplicaRoutingDataSource.Route.PRIMARY)
+    );
+    assertSame(
+      replicaDataSource,
+      routingDataSource.getResolvedDataSources().get(ReplicaRoutingDataSource.Route.REPLICA)
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that the <code>db</code> health check only checks the primary, so that the
+   * application is not reported as down because of the replica.</p>
+   */
+  @Test
+  @Order(5)
+  public void testHealthChecksPrimaryOnly() {
+    DataSourceHealthIndicator indicator = assertInstanceOf(
+      DataSourceHealthIndicator.class,
+      healthContributorRegistry.getContributor("db")
+    );
+
+    assertEquals(Status.UP, indicator.health().getStatus());
+    assertTrue(indicator.health().getDetails().containsKey("database"));
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that a todo can be added to a list right after the list is added, while the replica
+   * does not have the list yet, since the list is looked up on the primary.</p>
+   * 
+   * <p><code>[POST] /api/lists</code> and <code>[POST] /api/todos/{listId}</code></p>
+   * 
+   * @throws Exception If a request fails
+   */
+  @Test
+  @Order(6)
+  public void testAddTodoToListMissingFromReplica() throws Exception {
+    String id = mockMvc.perform(
+      post("/api/lists")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"title\":\"Project\"}")
+    )
+      .andExpect(status().isCreated())
+      .andReturn()
+      .getResponse()
+      .getContentAsString();
+
+    mockMvc.perform(
+      post("/api/todos/" + id)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"description\":\"Milk\"}")
+    )
+      .andExpect(status().isCreated());
+
+    assertTrue(lagMonitor.isUsable());
+    assertEquals(
+      0,
+      replicaTemplate.queryForObject(
+        "SELECT COUNT(*) FROM list WHERE list_id = ?",
+        Integer.class,
+        Long.valueOf(id)
+      )
+    );
+    assertEquals(
+      1,
+      jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM todo WHERE list_id = ?",
+        Integer.class,
+        Long.valueOf(id)
+      )
+    );
+  }
+}
@@ -0,0 +1,142 @@
+package no.ntnu.idata2502.project.todoapp.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The ReplicaRoutingDataSourceTest class represents the test class for the
+ * ReplicaRoutingDataSource class. The test class contains positive and negative tests of the
+ * routing between a primary and a replica.
+ * 
+ * <p>The primary and the replica are two in-memory H2 databases, each containing the name of the
+ * database, so that the database a statement was routed to can be read back. The lag of the
+ * replica is read from a table in the replica.</p>
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ * @see ReplicaRoutingDataSource
+ */
+public class ReplicaRoutingDataSourceTest {
+  private JdbcTemplate replicaTemplate;
+  private ReplicaLagMonitor lagMonitor;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+
+  /**
+   * Set up the primary and the replica.
+   */
+  @BeforeEach
+  public void setUp() {
+    DataSource primary = database("primary");
+    DataSource replica = database("replica");
+    replicaTemplate = new JdbcTemplate(replica);
+    replicaTemplate.execute("CREATE TABLE replica_status (lag INT)");
+    replicaTemplate.execute("INSERT INTO replica_status (lag) VALUES (0)");
+
+    lagMonitor = new ReplicaLagMonitor(
+      replica,
+      "SELECT lag FROM replica_status",
+      "lag",
+      Duration.ofSeconds(5),
+      new SimpleMeterRegistry()
+    );
+    DataSource dataSource = new LazyConnectionDataSourceProxy(
+      new ReplicaRoutingDataSource(primary, replica, lagMonitor)
+    );
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+  }
+
+  /**
+   * Creates an empty in-memory database with the specified name, containing the name.
+   * 
+   * @param name The specified name
+   * @return The data source of the database
+   */
+  private static DataSource database(String name) {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+    JdbcTemplate template = new JdbcTemplate(dataSource);
+    template.execute("CREATE TABLE node (name VARCHAR(16))");
+    template.execute("INSERT INTO node (name) VALUES ('" + name + "')");
+    return dataSource;
+  }
+
+  /**
+   * Reads the name of the database in a transaction.
+   * 
+   * @param readOnly True if the transaction is read-only or false otherwise
+   * @return The name of the database the transaction was routed to
+   */
+  private String readName(boolean readOnly) {
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(
+      status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class)
+    );
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that read-only transactions are routed to the replica, and other transactions and
+   * statements outside transactions to the primary.</p>
+   */
+  @Test
+  public void testRouting() {
+    assertTrue(lagMonitor.isUsable());
+    assertEquals("replica", readName(true));
+    assertEquals("primary", readName(false));
+    assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that read-only transactions fall back to the primary while the replica lags more
+   * than the maximum lag, and return to the replica once it catches up.</p>
+   */
+  @Test
+  public void testFallbackWhenReplicaLags() {
+    replicaTemplate.update("UPDATE replica_status SET lag = 30");
+    lagMonitor.check();
+
+    assertFalse(lagMonitor.isUsable());
+    assertEquals("primary", readName(true));
+
+    replicaTemplate.update("UPDATE replica_status SET lag = 1");
+    lagMonitor.check();
+
+    assertTrue(lagMonitor.isUsable());
+    assertEquals("replica", readName(true));
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that read-only transactions fall back to the primary when the replica does not report
+   * a lag, such as when replication is stopped.</p>
+   */
+  @Test
+  public void testFallbackWhenReplicationStopped() {
+    replicaTemplate.update("UPDATE replica_status SET lag = NULL");
+    lagMonitor.check();
+
+    assertFalse(lagMonitor.isUsable());
+    assertEquals("primary", readName(true));
+  }
+}
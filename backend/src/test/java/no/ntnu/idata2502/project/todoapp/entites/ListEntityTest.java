@@ -9,7 +9,7 @@ import org.junit.jupiter.api.Test;
  * contains positive and negative tests of the list entity.
  * 
  * @author Candidate 10006
- * @version v1.1.0 (2025.05.03)
+ * @version v1.2.0 (2026.10.18)
  * @see ListEntity
  */
 public class ListEntityTest {
@@ -72,4 +72,16 @@ public class ListEntityTest {
     ListEntity list = new ListEntity(" ");
     assertEquals(false, list.isValid());
   }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that the validation method for a {@link ListEntity list entity} returns invalid when
+   * the entity is constructed with a parameter longer than the title column.</p>
+   */
+  @Test
+  public void testValidationMethodWithTooLongParameter() {
+    assertEquals(true, new ListEntity("a".repeat(ListEntity.MAX_TITLE_LENGTH)).isValid());
+    assertEquals(false, new ListEntity("a".repeat(ListEntity.MAX_TITLE_LENGTH + 1)).isValid());
+  }
 }
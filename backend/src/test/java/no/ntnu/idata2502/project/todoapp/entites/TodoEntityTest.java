@@ -9,7 +9,7 @@ import org.junit.jupiter.api.Test;
  * contains positive and negative tests of the todo entity.
  * 
  * @author Candidate 10006
- * @version v1.1.0 (2025.05.03)
+ * @version v1.3.0 (2026.10.18)
  * @see TodoEntity
  */
 public class TodoEntityTest {
@@ -24,6 +24,7 @@ public class TodoEntityTest {
     TodoEntity todo = new TodoEntity("Milk");
     assertEquals("Milk", todo.getDescription());
     assertEquals(false, todo.isComplete());
+    assertEquals(0, todo.getVersion());
   }
 
   /**
@@ -100,4 +101,17 @@ public class TodoEntityTest {
     TodoEntity todo = new TodoEntity(" ");
     assertEquals(false, todo.isValid());
   }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that the validation method for a {@link TodoEntity todo entity} returns invalid when
+   * the entity is constructed with a parameter longer than the description column.</p>
+   */
+  @Test
+  public void testValidationMethodWithTooLongParameter() {
+    int max = TodoEntity.MAX_DESCRIPTION_LENGTH;
+    assertEquals(true, new TodoEntity("a".repeat(max)).isValid());
+    assertEquals(false, new TodoEntity("a".repeat(max + 1)).isValid());
+  }
 }
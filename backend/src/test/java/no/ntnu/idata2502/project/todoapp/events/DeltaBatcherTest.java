@@ -0,0 +1,160 @@
+package no.ntnu.idata2502.project.todoapp.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The DeltaBatcherTest class represents the test class for the DeltaBatcher class. The test class
+ * contains positive and negative tests of how changes are batched and coalesced.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ * @see DeltaBatcher
+ */
+public class DeltaBatcherTest {
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that toggles of the same todo within a batch are coalesced into the last one.</p>
+   */
+  @Test
+  public void testToggleToggleCoalesced() {
+    DeltaBatcher.Batch batch = new DeltaBatcher.Batch();
+
+    assertFalse(batch.add(new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, 1L, 1L, true)));
+    assertTrue(batch.add(new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, 1L, 1L, false)));
+
+    List<ChangeEvent> events = batch.events();
+    assertEquals(1, events.size());
+    assertEquals(ChangeEvent.Type.TODO_UPDATED, events.get(0).getType());
+    assertEquals(false, events.get(0).getComplete());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that an update of a todo created in the same batch is merged into the creation, which
+   * keeps the description.</p>
+   */
+  @Test
+  public void testCreateUpdateMerged() {
+    DeltaBatcher.Batch batch = new DeltaBatcher.Batch();
+
+    batch.add(new ChangeEvent(ChangeEvent.Type.TODO_CREATED, 1L, 1L, false, "Milk"));
+    assertTrue(batch.add(new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, 1L, 1L, true)));
+
+    List<ChangeEvent> events = batch.events();
+    assertEquals(1, events.size());
+    assertEquals(ChangeEvent.Type.TODO_CREATED, events.get(0).getType());
+    assertEquals(true, events.get(0).getComplete());
+    assertEquals("Milk", events.get(0).getDescription());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that a todo both created and deleted in the same batch is left out.</p>
+   */
+  @Test
+  public void testCreateDeleteCancelled() {
+    DeltaBatcher.Batch batch = new DeltaBatcher.Batch();
+
+    batch.add(new ChangeEvent(ChangeEvent.Type.TODO_CREATED, 1L, 1L, false, "Milk"));
+    assertTrue(batch.add(new ChangeEvent(ChangeEvent.Type.TODO_DELETED, 1L, 1L, null)));
+
+    assertTrue(batch.isEmpty());
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that changes to different todos, and changes to all todos in a list, are not
+   * coalesced, and are kept in the order they were made.</p>
+   */
+  @Test
+  public void testDifferentChangesNotCoalesced() {
+    DeltaBatcher.Batch batch = new DeltaBatcher.Batch();
+
+    assertFalse(batch.add(new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, 1L, 1L, true)));
+    assertFalse(batch.add(new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, 2L, 1L, true)));
+    assertFalse(batch.add(new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, null, 1L, false)));
+    assertFalse(batch.add(new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, null, 1L, true)));
+
+    List<ChangeEvent> events = batch.events();
+    assertEquals(4, events.size());
+    assertEquals(1L, events.get(0).getId());
+    assertEquals(2L, events.get(1).getId());
+    assertEquals(false, events.get(2).getComplete());
+    assertEquals(true, events.get(3).getComplete());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that a burst of toggles added between two ticks is sent as exactly one frame with one
+   * change, to the destination of the list, and that nothing is sent on the next tick.</p>
+   */
+  @Test
+  public void testFlushSendsOneFramePerDestination() {
+    List<Message<?>> frames = new ArrayList<>();
+    DeltaBatcher batcher = new DeltaBatcher(new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(
+      batcher,
+      "messagingTemplate",
+      new SimpMessagingTemplate((message, timeout) -> frames.add(message))
+    );
+
+    for (int i = 0; i < 10; i++) {
+      batcher.add(new ChangeEvent(ChangeEvent.Type.TODO_UPDATED, 1L, 1L, i % 2 == 0));
+    }
+    batcher.flush();
+    batcher.flush();
+
+    assertEquals(1, frames.size());
+    assertEquals(
+      DeltaBatcher.listTopic(1L),
+      SimpMessageHeaderAccessor.getDestination(frames.get(0).getHeaders())
+    );
+    List<?> events = (List<?>) frames.get(0).getPayload();
+    assertEquals(1, events.size());
+    assertEquals(false, ((ChangeEvent) events.get(0)).getComplete());
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that a change to a todo made without the list ID is sent to the destination of all
+   * lists, since the list it belongs to is not known.</p>
+   */
+  @Test
+  public void testChangeWithoutListIdSentToLists() {
+    List<Message<?>> frames = new ArrayList<>();
+    DeltaBatcher batcher = new DeltaBatcher(new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(
+      batcher,
+      "messagingTemplate",
+      new SimpMessagingTemplate((message, timeout) -> frames.add(message))
+    );
+
+    batcher.add(new ChangeEvent(ChangeEvent.Type.TODO_DELETED, 1L, null, null));
+    batcher.flush();
+
+    assertEquals(1, frames.size());
+    assertEquals(
+      DeltaBatcher.LISTS_TOPIC,
+      SimpMessageHeaderAccessor.getDestination(frames.get(0).getHeaders())
+    );
+  }
+}
@@ -0,0 +1,73 @@
+package no.ntnu.idata2502.project.todoapp.ids;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The SnowflakeIdGeneratorTest class represents the test class for the SnowflakeIdGenerator
+ * class. The test class contains positive and negative tests of the ID generator.
+ * 
+ * @author Candidate 10006
+ * @version v1.0.0 (2026.10.18)
+ * @see SnowflakeIdGenerator
+ */
+public class SnowflakeIdGeneratorTest {
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that an ID contains the time it was generated and the node ID of the generator.</p>
+   */
+  @Test
+  public void testIdStructure() {
+    long now = Instant.parse("2026-10-18T12:00:00Z").toEpochMilli();
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, () -> now);
+
+    long id = generator.next();
+
+    assertEquals(Instant.ofEpochMilli(now), SnowflakeIdGenerator.timestamp(id));
+    assertEquals(5, SnowflakeIdGenerator.nodeId(id));
+    assertTrue(id < 1L << 53);
+  }
+
+  /**
+   * <b>Positive test</b>
+   * 
+   * <p>Tests that IDs increase when more IDs are generated within a millisecond than the sequence
+   * can hold, and when the clock moves backwards.</p>
+   */
+  @Test
+  public void testIdsIncrease() {
+    AtomicLong now = new AtomicLong(Instant.parse("2026-10-18T12:00:00Z").toEpochMilli());
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, now::get);
+
+    long previous = generator.next();
+    for (int i = 0; i < 1000; i++) {
+      long id = generator.next();
+      assertTrue(id > previous);
+      previous = id;
+    }
+
+    now.addAndGet(-1000);
+    assertTrue(generator.next() > previous);
+  }
+
+  /**
+   * <b>Negative test</b>
+   * 
+   * <p>Tests that a generator cannot be created with a node ID outside the node ID bits.</p>
+   */
+  @Test
+  public void testInvalidNodeId() {
+    assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1)
+    );
+  }
+}